@@ -0,0 +1,61 @@
+package subway.line;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import subway.SubwayApplication;
+import subway.station.StationResponse;
+import subway.station.StationService;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static subway.station.StationFixture.stationRequest;
+
+/**
+ * 벤치마크용 애플리케이션을 띄우고 노선마다 서로 다른 역으로 이어진 합성 노선도를 넣는다.
+ * 응답 캐시와 읽기 모델은 꺼서 매번 저장소부터 읽도록 한다.
+ */
+public final class BenchmarkNetwork {
+
+    private static final int DISTANCE = 10;
+
+    private BenchmarkNetwork() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(SubwayApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "logging.level.org.hibernate=warn",
+                        "subway.line.cache.max-size=0",
+                        "subway.web.json-cache.enabled=false",
+                        "subway.read-model.enabled=false")
+                .run();
+    }
+
+    static void seed(ConfigurableApplicationContext context, int lineCount, int stationsPerLine) {
+        StationService stationService = context.getBean(StationService.class);
+        LineService lineService = context.getBean(LineService.class);
+        List<Long> stationIds = stationService.saveStations(
+                IntStream.range(0, lineCount * stationsPerLine)
+                        .mapToObj(i -> stationRequest("역" + i))
+                        .iterator())
+                .stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+
+        for (int line = 0; line < lineCount; line++) {
+            LineBulkRequest request = new LineBulkRequest();
+            request.setName("노선" + line);
+            request.setColor("bg-red-600");
+            request.setStationIds(stationIds.subList(line * stationsPerLine, (line + 1) * stationsPerLine));
+            request.setDistances(LongStream.range(1, stationsPerLine)
+                    .mapToObj(i -> DISTANCE)
+                    .collect(Collectors.toList()));
+            lineService.lineBulkSave(request);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package subway.line;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.station.Station;
+import subway.station.StationRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 노선의 역 순서와 이름을 읽는 두 경로를 비교한다.
+ * entityPath 는 구간을 fetch join 한 엔티티를 Sections 로 정렬한 뒤 역 이름을 따로 읽고,
+ * recursiveCtePath 는 재귀 CTE 하나로 정렬된 (노선, 역) 행을 바로 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineRenderingBenchmark {
+
+    @Param({"10", "100"})
+    private int lineCount;
+
+    @Param({"10", "50"})
+    private int stationsPerLine;
+
+    private ConfigurableApplicationContext context;
+    private LineRepository lineRepository;
+    private StationRepository stationRepository;
+    private TransactionTemplate readTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkNetwork.start();
+        BenchmarkNetwork.seed(context, lineCount, stationsPerLine);
+        lineRepository = context.getBean(LineRepository.class);
+        stationRepository = context.getBean(StationRepository.class);
+        readTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int entityPath() {
+        return readTransaction.execute(status -> {
+            List<Line> lines = lineRepository.findAllWithSections();
+            Map<Long, Station> stations = stationRepository.findAllById(lines.stream()
+                            .flatMap(line -> line.getStationIds().stream())
+                            .distinct()
+                            .collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(Station::getId, Function.identity()));
+            int names = 0;
+            for (Line line : lines) {
+                for (Long stationId : line.getStationIds()) {
+                    names += stations.get(stationId).getName().length();
+                }
+            }
+            return names;
+        });
+    }
+
+    @Benchmark
+    public int recursiveCtePath() {
+        return readTransaction.execute(status -> {
+            List<LineSummary> lines = lineRepository.findAllSummaries();
+            int names = lines.size();
+            for (LineStationRow row : lineRepository.findAllOrderedStations()) {
+                names += row.getStationName().length();
+            }
+            return names;
+        });
+    }
+}
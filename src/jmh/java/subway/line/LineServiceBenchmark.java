@@ -0,0 +1,42 @@
+package subway.line;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2 에 합성 노선도를 넣고 LineService.findAllLines 의 조회/조립 비용을 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineServiceBenchmark {
+
+    @Param({"10", "100"})
+    private int lineCount;
+
+    @Param({"10", "50"})
+    private int stationsPerLine;
+
+    private ConfigurableApplicationContext context;
+    private LineService lineService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkNetwork.start();
+        BenchmarkNetwork.seed(context, lineCount, stationsPerLine);
+        lineService = context.getBean(LineService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<LineResponse> findAllLines() {
+        return lineService.findAllLines();
+    }
+}
@@ -0,0 +1,94 @@
+package subway.line;
+
+import org.openjdk.jmh.annotations.*;
+import subway.station.Station;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static subway.station.StationFixture.station;
+
+/**
+ * 노선 길이별 Sections 연산 비용. add/delete 는 노선 길이를 바꾸므로 매 호출 전에 측정 대상 길이로 되돌린다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SectionsBenchmark {
+
+    private static final int DISTANCE = 10;
+
+    @State(Scope.Thread)
+    public static class LineState {
+
+        @Param({"2", "10", "100", "1000", "10000"})
+        int stationCount;
+
+        Line line;
+        Station lastStation;
+        Station nextStation;
+        boolean extended;
+
+        @Setup(Level.Trial)
+        public void createLine() {
+            line = Line.builder()
+                    .name("신분당선")
+                    .color("bg-red-600")
+                    .upStation(station(1))
+                    .downStation(station(2))
+                    .distance(DISTANCE)
+                    .build();
+            for (long id = 2; id < stationCount; id++) {
+                line.registerSection(station(id), station(id + 1), DISTANCE);
+            }
+            lastStation = station(stationCount);
+            nextStation = station(stationCount + 1L);
+        }
+
+        void extend() {
+            line.registerSection(lastStation, nextStation, DISTANCE);
+            extended = true;
+        }
+
+        void shorten() {
+            line.deleteSection(nextStation.getId());
+            extended = false;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BaseLengthState extends LineState {
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            if (extended) {
+                shorten();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ExtendedLengthState extends LineState {
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            if (!extended) {
+                extend();
+            }
+        }
+    }
+
+    @Benchmark
+    public void add(BaseLengthState state) {
+        state.extend();
+    }
+
+    @Benchmark
+    public void delete(ExtendedLengthState state) {
+        state.shorten();
+    }
+
+    @Benchmark
+    public List<Long> getStationIds(LineState state) {
+        return state.line.getStationIds();
+    }
+}
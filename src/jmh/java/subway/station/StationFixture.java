@@ -0,0 +1,42 @@
+package subway.station;
+
+import java.lang.reflect.Field;
+
+public class StationFixture {
+
+    private static final Field ID_FIELD = accessibleField(Station.class, "id");
+    private static final Field NAME_FIELD = accessibleField(StationRequest.class, "name");
+
+    private static Field accessibleField(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private StationFixture() {
+    }
+
+    public static Station station(long id) {
+        Station station = new Station("역" + id);
+        try {
+            ID_FIELD.set(station, id);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return station;
+    }
+
+    public static StationRequest stationRequest(String name) {
+        StationRequest request = new StationRequest();
+        try {
+            NAME_FIELD.set(request, name);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,74 @@
+package subway.station;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.line.BenchmarkNetwork;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static subway.station.StationFixture.stationRequest;
+
+/**
+ * 역 목록을 응답으로 만드는 세 경로를 비교한다. jmh 의 gc 프로파일러로 실행하면 연산당 할당량(gc.alloc.rate.norm)과
+ * GC 횟수도 함께 기록된다.
+ * managedEntities 는 엔티티와 dirty checking 스냅샷을 영속성 컨텍스트에 쌓고,
+ * readOnlyEntities 는 읽기 전용 트랜잭션으로 스냅샷을 건너뛰며,
+ * projection 은 (id, name) 만 StationResponse 로 바로 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StationListingBenchmark {
+
+    @Param({"100000"})
+    private int stationCount;
+
+    private ConfigurableApplicationContext context;
+    private StationRepository stationRepository;
+    private TransactionTemplate writableTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkNetwork.start();
+        context.getBean(StationService.class).saveStations(IntStream.range(0, stationCount)
+                .mapToObj(i -> stationRequest("역" + i))
+                .iterator());
+        stationRepository = context.getBean(StationRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        writableTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StationResponse> managedEntities() {
+        return writableTransaction.execute(status -> toResponses(stationRepository.findAll()));
+    }
+
+    @Benchmark
+    public List<StationResponse> readOnlyEntities() {
+        return readOnlyTransaction.execute(status -> toResponses(stationRepository.findAll()));
+    }
+
+    @Benchmark
+    public List<StationResponse> projection() {
+        return readOnlyTransaction.execute(status -> stationRepository.findAllResponses());
+    }
+
+    private static List<StationResponse> toResponses(List<Station> stations) {
+        return stations.stream()
+                .map(station -> new StationResponse(station.getId(), station.getName()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,40 @@
+package subway.station;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static subway.station.StationFixture.station;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StationsBenchmark {
+
+    @Param({"2", "10", "100", "1000", "10000"})
+    private int stationCount;
+
+    private Stations stations;
+    private Station lastStation;
+    private Station absentStation;
+
+    @Setup
+    public void setUp() {
+        stations = Stations.of(station(1), station(2));
+        for (long id = 3; id <= stationCount; id++) {
+            stations.add(station(id));
+        }
+        lastStation = station(stationCount);
+        absentStation = station(stationCount + 1L);
+    }
+
+    @Benchmark
+    public boolean existStation() {
+        return stations.existStation(lastStation);
+    }
+
+    @Benchmark
+    public boolean notExistStation() {
+        return stations.existStation(absentStation);
+    }
+}
@@ -1,15 +1,20 @@
 package subway.handler;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import subway.line.exception.*;
+import subway.path.exception.NotConnectedPathException;
+import subway.path.exception.SameSourceAndTargetException;
 import subway.station.exception.NotExistStationException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String CONFLICT_MESSAGE = new ConcurrentLineModificationException().getMessage();
+
     @ExceptionHandler({NotExistStationException.class, NotExistLineException.class})
     public ResponseEntity<String> handleNotFoundException(RuntimeException e) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -20,10 +25,21 @@ public class GlobalExceptionHandler {
             NotSameNewUpStationAndExistingDownStationException.class,
             AlreadyRegisteredStationException.class,
             NotDownStationException.class,
-            LastOneSectionException.class
+            LastOneSectionException.class,
+            InvalidStationSequenceException.class,
+            InvalidSectionRequestException.class,
+            InvalidDistanceException.class,
+            SameSourceAndTargetException.class,
+            NotConnectedPathException.class
     })
     public ResponseEntity<String> handleBadRequestException(RuntimeException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(e.getMessage());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler({ConcurrentLineModificationException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleConflictException(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(CONFLICT_MESSAGE);
+    }
+}
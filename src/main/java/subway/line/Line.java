@@ -1,11 +1,15 @@
 package subway.line;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import subway.station.Station;
 
 import javax.persistence.*;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subway.line")
 public class Line {
 
     @Id
@@ -15,6 +19,8 @@ public class Line {
     private String name;
     @Column(length = 20, nullable = false)
     private String color;
+    @Version
+    private Long version;
 
     @Embedded
     private Sections sections;
@@ -44,7 +50,6 @@ public class Line {
                 .upStation(upStation)
                 .downStation(downStation)
                 .distance(distance)
-                .isFirst(false)
                 .build();
     }
 
@@ -52,6 +57,13 @@ public class Line {
         return sections.getStationIds();
     }
 
+    /**
+     * 상행 종점부터 순서대로 구간에 달린 역을 돌려준다. 역을 따로 조회하지 않는다.
+     */
+    public List<Station> getStations() {
+        return sections.getStations();
+    }
+
     public Long getId() {
         return id;
     }
@@ -64,6 +76,10 @@ public class Line {
         return color;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public void deleteSection(Long stationId) {
         sections.delete(stationId);
     }
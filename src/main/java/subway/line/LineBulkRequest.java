@@ -0,0 +1,43 @@
+package subway.line;
+
+import java.util.List;
+
+public class LineBulkRequest {
+
+    private String name;
+    private String color;
+    private List<Long> stationIds;
+    private List<Integer> distances;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public void setStationIds(List<Long> stationIds) {
+        this.stationIds = stationIds;
+    }
+
+    public List<Integer> getDistances() {
+        return distances;
+    }
+
+    public void setDistances(List<Integer> distances) {
+        this.distances = distances;
+    }
+}
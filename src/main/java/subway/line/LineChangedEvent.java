@@ -0,0 +1,14 @@
+package subway.line;
+
+public class LineChangedEvent {
+
+    private final Long lineId;
+
+    public LineChangedEvent(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+}
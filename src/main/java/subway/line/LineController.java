@@ -1,17 +1,34 @@
 package subway.line;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.web.ETags;
+import subway.web.KeysetPages;
+import subway.web.NdjsonWriter;
+import subway.web.SerializedResponseCache;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 public class LineController {
     private LineService lineService;
 
-    public LineController(LineService lineService) {
+    private SerializedResponseCache serializedResponseCache;
+
+    private ObjectMapper objectMapper;
+
+    public LineController(LineService lineService, SerializedResponseCache serializedResponseCache,
+                          ObjectMapper objectMapper) {
         this.lineService = lineService;
+        this.serializedResponseCache = serializedResponseCache;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/lines")
@@ -21,16 +38,53 @@ public class LineController {
                 .body(line);
     }
 
+    @PostMapping("/lines/bulk")
+    public ResponseEntity<LineResponse> createLineWithStations(@RequestBody LineBulkRequest lineBulkRequest) {
+        LineResponse line = lineService.lineBulkSave(lineBulkRequest);
+        return ResponseEntity.created(URI.create("/lines/" + line.getId()))
+                .body(line);
+    }
+
     @GetMapping("/lines")
-    public ResponseEntity<List<LineResponse>> showLines() {
+    public ResponseEntity<byte[]> showLines(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serializedResponseCache.get(SerializedResponseCache.Key.LINES, lineService::findAllLines)
+                .toResponseEntity(ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping(value = "/lines", params = "limit")
+    public ResponseEntity<List<LineResponse>> showLines(@RequestParam(value = "after", defaultValue = "0") Long after,
+                                                        @RequestParam("limit") int limit) {
+        return KeysetPages.toResponseEntity("/lines", lineService.findLinesAfter(after, KeysetPages.pageable(limit)), LineResponse::getId);
+    }
+
+    @GetMapping(value = "/lines/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamLines() {
         return ResponseEntity.ok()
-                .body(lineService.findAllLines());
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> KeysetPages.forEach(lineService::findLinesAfter, LineResponse::getId, new NdjsonWriter<>(objectMapper, output)));
     }
 
     @GetMapping("/lines/{id}")
-    public ResponseEntity<LineResponse> showLines(@PathVariable("id") Long id) {
+    public ResponseEntity<LineResponse> showLines(@PathVariable("id") Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> eTag = lineService.findLineVersion(id)
+                    .map(version -> eTag(id, version));
+            if (eTag.isPresent() && ETags.matches(ifNoneMatch, eTag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag.get())
+                        .build();
+            }
+        }
+        LineResponse line = lineService.findLine(id);
         return ResponseEntity.ok()
-                .body(lineService.findLine(id));
+                .eTag(eTag(id, line.getVersion()))
+                .body(line);
+    }
+
+    private static String eTag(Long id, Long version) {
+        return ETags.of(id + "-" + version);
     }
 
     @PutMapping("/lines/{id}")
@@ -52,6 +106,12 @@ public class LineController {
                 .body(lineService.registerSections(id, sectionRequest));
     }
 
+    @PostMapping("/lines/{id}/sections/batch")
+    public ResponseEntity<LineResponse> registerSectionsBatch(@PathVariable("id") Long id, @RequestBody List<SectionRequest> sectionRequests) {
+        return ResponseEntity.created(URI.create("/lines/" + id))
+                .body(lineService.registerSectionsBatch(id, sectionRequests));
+    }
+
     @DeleteMapping("/lines/{id}/sections")
     public ResponseEntity<LineResponse> deleteSections(@PathVariable("id") Long id, @RequestParam("stationId") Long stationId) {
         return ResponseEntity.ok()
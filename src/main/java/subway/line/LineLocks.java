@@ -0,0 +1,60 @@
+package subway.line;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 노선 ID 로 나눈 스트라이프 락. 같은 노선의 수정은 도착한 순서대로 하나씩 처리하고, 다른 스트라이프의 노선은 동시에 처리한다.
+ * 트랜잭션 밖에서 잡으므로 DB 락이나 버전 충돌 재시도를 기다리는 동안 커넥션을 붙잡지 않는다.
+ * 한 프로세스 안에서만 유효하며, 여러 인스턴스 사이의 충돌은 노선 버전 검사가 막는다.
+ */
+@Component
+public class LineLocks {
+
+    private final ReentrantLock[] locks;
+    private final Timer waitTimer;
+
+    public LineLocks(@Value("${subway.line.lock.stripes:64}") int stripes, MeterRegistry meterRegistry) {
+        this.locks = new ReentrantLock[stripes];
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            locks[stripe] = new ReentrantLock(true);
+        }
+        this.waitTimer = Timer.builder("subway.line.lock.wait")
+                .description("노선 수정 락을 얻기까지 기다린 시간")
+                .register(meterRegistry);
+        Gauge.builder("subway.line.lock.queue", this, LineLocks::queueLength)
+                .description("모든 스트라이프에서 노선 수정 락을 기다리는 요청 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T withLock(Long lineId, Supplier<T> action) {
+        ReentrantLock lock = locks[stripeOf(lineId)];
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int queueLength() {
+        int queueLength = 0;
+        for (ReentrantLock lock : locks) {
+            queueLength += lock.getQueueLength();
+        }
+        return queueLength;
+    }
+
+    int stripeOf(Long lineId) {
+        return Math.floorMod(lineId.hashCode(), locks.length);
+    }
+}
@@ -1,9 +1,76 @@
 package subway.line;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
-    Optional<Line> findOneById(Long id);
+
+    String ORDERED_STATIONS_ANCHOR = "WITH RECURSIVE chain(line_id, depth, station_id) AS (" +
+            "SELECT s.line_id, 0, s.up_station_id FROM section s WHERE s.ordinal = 0 ";
+
+    String ORDERED_STATIONS_WALK = "UNION ALL " +
+            "SELECT s.line_id, c.depth + 1, s.down_station_id FROM chain c " +
+            "JOIN section s ON s.line_id = c.line_id AND s.ordinal = c.depth) " +
+            "SELECT c.line_id AS \"lineId\", c.depth AS \"depth\", " +
+            "c.station_id AS \"stationId\", st.name AS \"stationName\" " +
+            "FROM chain c JOIN station st ON st.id = c.station_id " +
+            "ORDER BY c.line_id, c.depth";
+
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id = :id " +
+            "order by s.ordinal")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    Optional<Line> findWithSectionsById(@Param("id") Long id);
+
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "order by l.id, s.ordinal")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Line> findAllWithSections();
+
+    @Query("select l.id as id, l.name as name, l.color as color, l.version as version from Line l order by l.id")
+    List<LineSummary> findAllSummaries();
+
+    @Query("select l.id as id, l.name as name, l.color as color, l.version as version from Line l " +
+            "where l.id in :ids order by l.id")
+    List<LineSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 첫 구간의 상행역에서 시작해 (line_id, ordinal) 인덱스로 다음 구간을 따라가며 노선별 역을 순서대로 읽는다.
+     * 엔티티를 만들지 않고 (노선, 순서, 역 ID, 역 이름) 행만 돌려준다.
+     */
+    @Query(value = ORDERED_STATIONS_ANCHOR + ORDERED_STATIONS_WALK, nativeQuery = true)
+    List<LineStationRow> findAllOrderedStations();
+
+    @Query(value = ORDERED_STATIONS_ANCHOR + "AND s.line_id IN (:lineIds) " + ORDERED_STATIONS_WALK, nativeQuery = true)
+    List<LineStationRow> findOrderedStationsByLineIdIn(@Param("lineIds") Collection<Long> lineIds);
+
+    @Query("select l.id from Line l where l.id > :after order by l.id")
+    Slice<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+
+    /**
+     * 구간 변경은 Line 행을 바꾸지 않으므로, 변경용으로 조회할 때 커밋 시점에 버전을 강제로 올린다.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<Line> findForUpdateById(Long id);
+
+    @Query("select l.version from Line l where l.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
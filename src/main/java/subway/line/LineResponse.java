@@ -1,5 +1,6 @@
 package subway.line;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import subway.station.StationResponse;
 
 import java.util.List;
@@ -10,6 +11,8 @@ public class LineResponse {
     private String name;
     private String color;
     private List<StationResponse> stations;
+    @JsonIgnore
+    private Long version;
 
     public Long getId() {
         return id;
@@ -43,6 +46,14 @@ public class LineResponse {
         this.stations = stations;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -52,6 +63,7 @@ public class LineResponse {
         private String name;
         private String color;
         private List<StationResponse> stations;
+        private Long version;
 
         public Builder id(Long id) {
             this.id = id;
@@ -73,12 +85,18 @@ public class LineResponse {
             return this;
         }
 
+        public Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public LineResponse build() {
             LineResponse lineResponse = new LineResponse();
             lineResponse.id = this.id;
             lineResponse.name = this.name;
             lineResponse.color = this.color;
             lineResponse.stations = this.stations;
+            lineResponse.version = this.version;
             return lineResponse;
         }
     }
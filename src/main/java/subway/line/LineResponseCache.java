@@ -0,0 +1,141 @@
+package subway.line;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.station.StationChangedEvent;
+import subway.station.StationResponse;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 조립이 끝난 LineResponse 를 노선 ID 별로, 그리고 전체 목록 하나를 보관하는 LRU 캐시.
+ * 변경이 커밋된 뒤 해당 노선(또는 역을 포함한 노선)만 무효화하며, 무효화될 때마다 세대(generation)를 올려
+ * 무효화 이전에 조회를 시작한 응답이 뒤늦게 캐시에 들어가지 않도록 한다.
+ * subway.line.cache.max-size 가 0 이면 캐시하지 않는다.
+ * 이 캐시를 원본으로 쓰는 상위 캐시보다 먼저 무효화되도록 리스너 순서를 앞에 둔다.
+ */
+@Component
+public class LineResponseCache implements MeterBinder {
+
+    private final int maxSize;
+    private final Map<Long, LineResponse> lines;
+    private List<LineResponse> allLines;
+    private long generation;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public LineResponseCache(@Value("${subway.line.cache.max-size:1000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.lines = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LineResponse> eldest) {
+                if (size() > LineResponseCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized Optional<LineResponse> get(Long lineId) {
+        return countHitOrMiss(Optional.ofNullable(lines.get(lineId)));
+    }
+
+    public synchronized Optional<List<LineResponse>> getAll() {
+        return countHitOrMiss(Optional.ofNullable(allLines));
+    }
+
+    private <T> Optional<T> countHitOrMiss(Optional<T> cached) {
+        if (cached.isPresent()) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return cached;
+    }
+
+    public synchronized void put(Long lineId, LineResponse lineResponse, long generation) {
+        if (maxSize > 0 && this.generation == generation) {
+            lines.put(lineId, lineResponse);
+        }
+    }
+
+    public synchronized void putAll(List<LineResponse> lineResponses, long generation) {
+        if (maxSize > 0 && this.generation == generation) {
+            allLines = List.copyOf(lineResponses);
+        }
+    }
+
+    @Order(0)
+    @TransactionalEventListener
+    public synchronized void onLineChanged(LineChangedEvent event) {
+        generation++;
+        lines.remove(event.getLineId());
+        allLines = null;
+    }
+
+    @Order(0)
+    @TransactionalEventListener
+    public synchronized void onStationChanged(StationChangedEvent event) {
+        if (event.isCreation()) {
+            return;
+        }
+        generation++;
+        Set<Long> stationIds = new HashSet<>(event.getStationIds());
+        lines.values().removeIf(line -> containsAnyStation(line, stationIds));
+        if (allLines != null && allLines.stream().anyMatch(line -> containsAnyStation(line, stationIds))) {
+            allLines = null;
+        }
+    }
+
+    private static boolean containsAnyStation(LineResponse line, Set<Long> stationIds) {
+        return line.getStations()
+                .stream()
+                .map(StationResponse::getId)
+                .anyMatch(stationIds::contains);
+    }
+
+    public synchronized void clear() {
+        generation++;
+        lines.clear();
+        allLines = null;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("subway.line.cache.hits", this, LineResponseCache::getHitCount)
+                .register(registry);
+        FunctionCounter.builder("subway.line.cache.misses", this, LineResponseCache::getMissCount)
+                .register(registry);
+        FunctionCounter.builder("subway.line.cache.evictions", this, LineResponseCache::getEvictionCount)
+                .register(registry);
+    }
+}
@@ -1,77 +1,324 @@
 package subway.line;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.line.exception.ConcurrentLineModificationException;
+import subway.line.exception.InvalidSectionRequestException;
+import subway.line.exception.InvalidStationSequenceException;
 import subway.line.exception.NotExistLineException;
 import subway.station.Station;
 import subway.station.StationRepository;
 import subway.station.StationResponse;
 import subway.station.exception.NotExistStationException;
+import subway.topology.LineView;
+import subway.topology.TopologyReadModel;
+import subway.topology.TopologySnapshot;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 public class LineService {
 
+    private static final String TIMER = "subway.line.service";
+
     private LineRepository lineRepository;
 
     private StationRepository stationRepository;
 
-    public LineService(LineRepository lineRepository, StationRepository stationRepository) {
+    private LineResponseCache lineResponseCache;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private DistributionSummary lineStationCount;
+
+    private LineLocks lineLocks;
+
+    private TopologyReadModel topologyReadModel;
+
+    private TransactionTemplate transactionTemplate;
+
+    private int maxModificationAttempts;
+
+    private SingleFlight<Long, List<LineResponse>> allLinesFlight;
+
+    private SingleFlight<Map.Entry<Long, Long>, LineResponse> lineFlight;
+
+    public LineService(LineRepository lineRepository, StationRepository stationRepository,
+                       LineResponseCache lineResponseCache, ApplicationEventPublisher eventPublisher,
+                       MeterRegistry meterRegistry, LineLocks lineLocks, TopologyReadModel topologyReadModel,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${subway.line.modification.max-attempts:3}") int maxModificationAttempts,
+                       @Value("${subway.line.single-flight.timeout-ms:2000}") long singleFlightTimeoutMillis) {
         this.lineRepository = lineRepository;
         this.stationRepository = stationRepository;
+        this.lineResponseCache = lineResponseCache;
+        this.eventPublisher = eventPublisher;
+        this.lineLocks = lineLocks;
+        this.topologyReadModel = topologyReadModel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxModificationAttempts = maxModificationAttempts;
+        Duration singleFlightTimeout = Duration.ofMillis(singleFlightTimeoutMillis);
+        this.allLinesFlight = new SingleFlight<>("lines", singleFlightTimeout, meterRegistry);
+        this.lineFlight = new SingleFlight<>("line", singleFlightTimeout, meterRegistry);
+        this.lineStationCount = DistributionSummary.builder("subway.line.stations")
+                .description("캐시 없이 조립한 노선 응답의 역 수")
+                .baseUnit("stations")
+                .register(meterRegistry);
     }
 
+    @Timed(TIMER)
     @Transactional
     public LineResponse lineSave(LineRequest lineRequest) {
         Line line = lineRepository.save(createLine(lineRequest));
+        publishLineChanged(line.getId());
         return createLineResponse(line);
     }
 
+    /**
+     * 역 순서 전체를 메모리에서 한 번에 검증해 노선을 만들고, 모든 구간을 한 트랜잭션에서 함께 저장한다.
+     */
+    @Timed(TIMER)
+    @Transactional
+    public LineResponse lineBulkSave(LineBulkRequest lineBulkRequest) {
+        List<Long> stationIds = lineBulkRequest.getStationIds();
+        List<Integer> distances = lineBulkRequest.getDistances();
+        if (!isValidSequence(stationIds, distances)) {
+            throw new InvalidStationSequenceException();
+        }
+
+        Map<Long, Station> stations = findStationsBy(stationIds);
+        Line line = Line.builder()
+                .name(lineBulkRequest.getName())
+                .color(lineBulkRequest.getColor())
+                .upStation(findStationBy(stationIds.get(0), stations))
+                .downStation(findStationBy(stationIds.get(1), stations))
+                .distance(distances.get(0))
+                .build();
+        for (int i = 1; i < distances.size(); i++) {
+            line.registerSection(findStationBy(stationIds.get(i), stations), findStationBy(stationIds.get(i + 1), stations), distances.get(i));
+        }
+
+        Line savedLine = lineRepository.save(line);
+        publishLineChanged(savedLine.getId());
+        return createLineResponse(savedLine);
+    }
+
+    private static boolean isValidSequence(List<Long> stationIds, List<Integer> distances) {
+        return stationIds != null && distances != null
+                && stationIds.size() >= 2 && distances.size() == stationIds.size() - 1
+                && stationIds.stream().noneMatch(Objects::isNull)
+                && new HashSet<>(stationIds).size() == stationIds.size();
+    }
+
+    /**
+     * 읽기 모델이 있으면 트랜잭션을 열지 않고 메모리에서 응답을 만든다.
+     * 캐시에 없으면 같은 캐시 세대 안에서 동시에 들어온 조회끼리 한 번만 만든다. 세대를 키에 넣으므로
+     * 변경이 커밋된 뒤에 들어온 조회가 그 전에 시작한 조회의 결과를 받지 않는다.
+     */
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<LineResponse> findAllLines() {
-        return lineRepository.findAll()
-                .stream()
-                .map(this::createLineResponse)
-                .collect(Collectors.toList());
+        return lineResponseCache.getAll()
+                .orElseGet(() -> {
+                    long generation = lineResponseCache.generation();
+                    return allLinesFlight.execute(generation, () -> loadAllLines(generation));
+                });
     }
 
+    private List<LineResponse> loadAllLines(long generation) {
+        List<LineResponse> lineResponses = topologyReadModel.read()
+                .map(this::createLineResponses)
+                .orElseGet(this::findAllLinesFromRepository);
+        lineResponseCache.putAll(lineResponses, generation);
+        return lineResponses;
+    }
+
+    /**
+     * 노선 행과, 재귀 CTE 로 순서대로 읽은 역 행만으로 응답을 만든다. 엔티티를 만들지 않는다.
+     */
+    private List<LineResponse> findAllLinesFromRepository() {
+        return createLineResponses(lineRepository.findAllSummaries(), lineRepository.findAllOrderedStations());
+    }
+
+    private List<LineResponse> findLinesFromRepository(Collection<Long> lineIds) {
+        if (lineIds.isEmpty()) {
+            return List.of();
+        }
+        return createLineResponses(lineRepository.findSummariesByIdIn(lineIds), lineRepository.findOrderedStationsByLineIdIn(lineIds));
+    }
+
+    /**
+     * after 보다 ID 가 큰 노선을 ID 순서로 한 페이지만 읽는다. 노선 ID 페이지를 먼저 자른 뒤 그 노선들의 역을 읽는다.
+     */
+    @Timed(TIMER)
+    public Slice<LineResponse> findLinesAfter(Long after, Pageable pageable) {
+        Slice<Long> lineIds = lineRepository.findIdsAfter(after, pageable);
+        return new SliceImpl<>(findLinesFromRepository(lineIds.getContent()), pageable, lineIds.hasNext());
+    }
+
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public LineResponse findLine(Long id) {
-        return createLineResponse(findLineBy(id));
+        return lineResponseCache.get(id)
+                .orElseGet(() -> {
+                    long generation = lineResponseCache.generation();
+                    return lineFlight.execute(Map.entry(id, generation), () -> loadLine(id, generation));
+                });
     }
 
-    @Transactional
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<Long> findLineVersion(Long id) {
+        return topologyReadModel.read()
+                .map(snapshot -> snapshot.findLine(id).map(LineView::getVersion))
+                .orElseGet(() -> lineRepository.findVersionById(id));
+    }
+
+    private LineResponse loadLine(Long id, long generation) {
+        LineResponse lineResponse = topologyReadModel.read()
+                .map(snapshot -> createLineResponse(id, snapshot))
+                .orElseGet(() -> findLinesFromRepository(List.of(id)).stream()
+                        .findFirst()
+                        .orElseThrow(NotExistLineException::new));
+        lineResponseCache.put(id, lineResponse, generation);
+        return lineResponse;
+    }
+
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LineResponse modifyLine(Long id, LineRequest lineRequest) {
-        Line line = findLineBy(id);
-        line.modify(lineRequest.getName(), lineRequest.getColor());
-        return createLineResponse(lineRepository.save(line));
+        return modifyExclusively(id, () -> {
+            Line line = findLineBy(id);
+            line.modify(lineRequest.getName(), lineRequest.getColor());
+            publishLineChanged(id);
+            return createLineResponse(lineRepository.save(line));
+        });
     }
 
-    @Transactional
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteLine(Long id) {
-        lineRepository.deleteById(id);
+        modifyExclusively(id, () -> {
+            lineRepository.deleteById(id);
+            publishLineChanged(id);
+            return null;
+        });
     }
 
-    @Transactional
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LineResponse registerSections(Long id, SectionRequest sectionRequest) {
-        Station upStation = findStationBy(sectionRequest.getUpStationId());
-        Station downStation = findStationBy(sectionRequest.getDownStationId());
-        Line line = findLineBy(id);
-        line.registerSection(upStation, downStation, sectionRequest.getDistance());
-        return createLineResponse(lineRepository.save(line));
+        validate(sectionRequest);
+        return modifyExclusively(id, () -> {
+            Station upStation = findStationBy(sectionRequest.getUpStationId());
+            Station downStation = findStationBy(sectionRequest.getDownStationId());
+            Line line = findLineForUpdateBy(id);
+            line.registerSection(upStation, downStation, sectionRequest.getDistance());
+            publishLineChanged(id);
+            return createLineResponse(lineRepository.save(line));
+        });
+    }
+
+    /**
+     * 여러 구간을 요청 순서대로 현재 하행 종점 뒤에 이어 붙인다. 하나라도 규칙에 맞지 않으면 트랜잭션 전체가 롤백된다.
+     */
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LineResponse registerSectionsBatch(Long id, List<SectionRequest> sectionRequests) {
+        if (sectionRequests == null || sectionRequests.isEmpty()) {
+            throw new InvalidSectionRequestException();
+        }
+        sectionRequests.forEach(LineService::validate);
+        return modifyExclusively(id, () -> {
+            Map<Long, Station> stations = findStationsBy(sectionRequests.stream()
+                    .flatMap(sectionRequest -> Stream.of(sectionRequest.getUpStationId(), sectionRequest.getDownStationId()))
+                    .collect(Collectors.toSet()));
+            Line line = findLineForUpdateBy(id);
+            for (SectionRequest sectionRequest : sectionRequests) {
+                line.registerSection(
+                        findStationBy(sectionRequest.getUpStationId(), stations),
+                        findStationBy(sectionRequest.getDownStationId(), stations),
+                        sectionRequest.getDistance());
+            }
+            publishLineChanged(id);
+            return createLineResponse(lineRepository.save(line));
+        });
+    }
+
+    private static void validate(SectionRequest sectionRequest) {
+        if (sectionRequest == null || sectionRequest.getUpStationId() == null || sectionRequest.getDownStationId() == null) {
+            throw new InvalidSectionRequestException();
+        }
     }
 
     private Line findLineBy(Long id) {
-        return lineRepository.findOneById(id)
+        return lineRepository.findWithSectionsById(id)
                 .orElseThrow(NotExistLineException::new);
     }
 
-    @Transactional
+    private Line findLineForUpdateBy(Long id) {
+        return lineRepository.findForUpdateById(id)
+                .orElseThrow(NotExistLineException::new);
+    }
+
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LineResponse deleteSection(Long lineId, Long stationId) {
-        Line line = findLineBy(lineId);
-        line.deleteSection(stationId);
-        return createLineResponse(lineRepository.save(line));
+        return modifyExclusively(lineId, () -> {
+            Line line = findLineForUpdateBy(lineId);
+            line.deleteSection(stationId);
+            publishLineChanged(lineId);
+            return createLineResponse(lineRepository.save(line));
+        });
+    }
+
+    /**
+     * 같은 노선의 수정은 노선 락을 잡고 하나씩 처리한다. 락은 트랜잭션 밖에서 잡는다.
+     * 다른 인스턴스와의 버전 충돌로 커밋이 실패하면 새 트랜잭션에서 노선을 다시 읽어 최대 max-attempts 번까지 다시 시도한다.
+     * 실패한 시도는 롤백되므로 변경 이벤트는 커밋에 성공한 시도에서만 나간다.
+     */
+    private <T> T modifyExclusively(Long lineId, Supplier<T> modification) {
+        return lineLocks.withLock(lineId, () -> retryOnConflict(modification));
+    }
+
+    private <T> T retryOnConflict(Supplier<T> modification) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> modification.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxModificationAttempts) {
+                    throw new ConcurrentLineModificationException();
+                }
+            }
+        }
+    }
+
+    private void publishLineChanged(Long lineId) {
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
     }
 
     private Line createLine(LineRequest lineRequest) {
@@ -85,24 +332,81 @@ public class LineService {
     }
 
     private LineResponse createLineResponse(Line line) {
+        List<StationResponse> stations = line.getStations()
+                .stream()
+                .map(station -> new StationResponse(station.getId(), station.getName()))
+                .collect(Collectors.toList());
+        lineStationCount.record(stations.size());
         return LineResponse.builder()
                 .id(line.getId())
                 .name(line.getName())
                 .color(line.getColor())
-                .stations(createStationResponses(line.getStationIds()))
+                .stations(stations)
+                .version(line.getVersion())
                 .build();
     }
 
-    private List<StationResponse> createStationResponses(List<Long> stationIds) {
-        return stationIds.stream()
-                .map(this::createStation)
+    private List<LineResponse> createLineResponses(List<LineSummary> lines, List<LineStationRow> rows) {
+        Map<Long, List<StationResponse>> stationsByLineId = rows.stream()
+                .collect(Collectors.groupingBy(LineStationRow::getLineId,
+                        Collectors.mapping(row -> new StationResponse(row.getStationId(), row.getStationName()), Collectors.toList())));
+        return lines.stream()
+                .map(line -> {
+                    List<StationResponse> stations = stationsByLineId.getOrDefault(line.getId(), List.of());
+                    lineStationCount.record(stations.size());
+                    return LineResponse.builder()
+                            .id(line.getId())
+                            .name(line.getName())
+                            .color(line.getColor())
+                            .stations(stations)
+                            .version(line.getVersion())
+                            .build();
+                })
                 .collect(Collectors.toList());
     }
 
-    private StationResponse createStation(Long stationId) {
-        Station station = stationRepository.findById(stationId)
-                .orElseThrow(NotExistStationException::new);
-        return new StationResponse(stationId, station.getName());
+    private List<LineResponse> createLineResponses(TopologySnapshot snapshot) {
+        return snapshot.lines()
+                .stream()
+                .map(line -> createLineResponse(line, snapshot))
+                .collect(Collectors.toList());
+    }
+
+    private LineResponse createLineResponse(Long id, TopologySnapshot snapshot) {
+        return snapshot.findLine(id)
+                .map(line -> createLineResponse(line, snapshot))
+                .orElseThrow(NotExistLineException::new);
+    }
+
+    private LineResponse createLineResponse(LineView line, TopologySnapshot snapshot) {
+        lineStationCount.record(line.stationCount());
+        List<StationResponse> stations = new ArrayList<>(line.stationCount());
+        for (int i = 0; i < line.stationCount(); i++) {
+            long stationId = line.stationIdAt(i);
+            stations.add(new StationResponse(stationId, snapshot.findStationName(stationId)
+                    .orElseThrow(NotExistStationException::new)));
+        }
+        return LineResponse.builder()
+                .id(line.getId())
+                .name(line.getName())
+                .color(line.getColor())
+                .stations(stations)
+                .version(line.getVersion())
+                .build();
+    }
+
+    private Station findStationBy(Long stationId, Map<Long, Station> stations) {
+        Station station = stations.get(stationId);
+        if (station == null) {
+            throw new NotExistStationException();
+        }
+        return station;
+    }
+
+    private Map<Long, Station> findStationsBy(Collection<Long> stationIds) {
+        return stationRepository.findAllById(stationIds)
+                .stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
     }
 
     private Station findStationBy(Long stationId) {
@@ -0,0 +1,15 @@
+package subway.line;
+
+/**
+ * 재귀 CTE 로 구간을 따라가며 읽은 노선의 역 한 줄. depth 는 상행 종점을 0 으로 한 순서다.
+ */
+public interface LineStationRow {
+
+    Long getLineId();
+
+    Integer getDepth();
+
+    Long getStationId();
+
+    String getStationName();
+}
@@ -0,0 +1,15 @@
+package subway.line;
+
+/**
+ * 구간 없이 노선 행만 읽는 프로젝션.
+ */
+public interface LineSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getColor();
+
+    Long getVersion();
+}
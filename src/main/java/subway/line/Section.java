@@ -1,14 +1,25 @@
 package subway.line;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import subway.line.exception.InvalidDistanceException;
 import subway.station.Station;
 
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subway.section")
+@Table(indexes = {
+        @Index(name = "idx_section_line_ordinal", columnList = "lineId, ordinal"),
+        @Index(name = "idx_section_up_station", columnList = "upStationId"),
+        @Index(name = "idx_section_down_station", columnList = "downStationId")
+})
 public class Section {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_id_generator")
+    @SequenceGenerator(name = "section_id_generator", sequenceName = "section_seq", allocationSize = 50)
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lineId", referencedColumnName = "id")
@@ -21,22 +32,28 @@ public class Section {
     private Station downStation;
     @Column(nullable = false)
     private Integer distance;
+    /**
+     * 노선 안에서 상행 종점부터 매긴 구간 순서(0부터 시작). 구간은 하행 종점에만 추가/삭제되므로 항상 연속된다.
+     */
     @Column(nullable = false)
-    private boolean isFirst;
+    private int ordinal;
 
     public Section() {
     }
 
     private Section(Builder builder) {
+        if (builder.distance == null || builder.distance <= 0) {
+            throw new InvalidDistanceException();
+        }
         this.line = builder.line;
         this.upStation = builder.upStation;
         this.downStation = builder.downStation;
         this.distance = builder.distance;
-        this.isFirst = builder.isFirst;
+        this.ordinal = builder.ordinal;
     }
 
-    public boolean notSameDownStation(Station station) {
-        return !downStation.equals(station);
+    void placeAfter(Section previous) {
+        this.ordinal = previous.ordinal + 1;
     }
 
     public boolean isDownStation(Long stationId) {
@@ -55,8 +72,16 @@ public class Section {
         return Station.from(downStation);
     }
 
-    public boolean isFirst() {
-        return isFirst;
+    public Long getUpStationId() {
+        return upStation.getId();
+    }
+
+    public Long getDownStationId() {
+        return downStation.getId();
+    }
+
+    public int getOrdinal() {
+        return ordinal;
     }
 
     public static Builder builder() {
@@ -69,7 +94,7 @@ public class Section {
         private Station upStation;
         private Station downStation;
         private Integer distance;
-        private boolean isFirst;
+        private int ordinal;
 
         public Builder line(Line line) {
             this.line = line;
@@ -91,8 +116,8 @@ public class Section {
             return this;
         }
 
-        public Builder isFirst(boolean isFirst) {
-            this.isFirst = isFirst;
+        public Builder ordinal(int ordinal) {
+            this.ordinal = ordinal;
             return this;
         }
 
@@ -1,5 +1,7 @@
 package subway.line;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import subway.line.exception.AlreadyRegisteredStationException;
 import subway.line.exception.LastOneSectionException;
 import subway.line.exception.NotDownStationException;
@@ -11,15 +13,31 @@ import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.FetchType;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Embeddable
 public class Sections {
 
+    /**
+     * ordinal 순으로 정렬되어 있다. 조회 시에는 @OrderBy 가, 변경 시에는 add/delete 가 하행 종점에서만 일어나는 것이 순서를 보장한다.
+     */
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "line", orphanRemoval = true)
+    @OrderBy("ordinal")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subway.line.sections")
     private List<Section> sections = new ArrayList<>();
 
+    /**
+     * 등록된 역 ID 인덱스. 영속 상태가 아니므로 처음 필요할 때 sections 로부터 만들고,
+     * 이후에는 add/delete 에서 함께 갱신한다.
+     */
+    @Transient
+    private Set<Long> stationIds;
+
     public Sections() {
     }
 
@@ -37,60 +55,49 @@ public class Sections {
                 .upStation(upStation)
                 .downStation(downStation)
                 .distance(distance)
-                .isFirst(true)
+                .ordinal(0)
                 .build();
     }
 
     public void add(Section section) {
         Section lastSection = findLastSection();
-        if (lastSection.notSameDownStation(section.getUpStation())) {
+        if (!lastSection.isDownStation(section.getUpStationId())) {
             throw new NotSameNewUpStationAndExistingDownStationException();
         }
-        if (existStation(section.getDownStation())) {
+        if (existStation(section.getDownStationId())) {
             throw new AlreadyRegisteredStationException();
         }
+        section.placeAfter(lastSection);
         sections.add(section);
+        index(section);
     }
 
     private Section findLastSection() {
         return sections.get(sections.size() - 1);
     }
 
-    private boolean existStation(Station downStation) {
-        Stations stations = extractStations();
-        return stations.existStation(downStation);
+    private boolean existStation(Long stationId) {
+        buildIndexIfAbsent();
+        return stationIds.contains(stationId);
     }
 
     public List<Long> getStationIds() {
         return extractStations().getStationIds();
     }
 
-    private Stations extractStations() {
-        Section firstSection = findFirstSection();
+    public List<Station> getStations() {
+        return extractStations().getStations();
+    }
 
+    private Stations extractStations() {
+        Section firstSection = sections.get(0);
         Stations stations = Stations.of(firstSection.getUpStation(), firstSection.getDownStation());
-
-        for (Section section : sections) {
-            appendStations(stations, section);
-        }
-
+        sections.stream()
+                .skip(1)
+                .forEach(section -> stations.add(section.getDownStation()));
         return stations;
     }
 
-    private Section findFirstSection() {
-        return sections.stream()
-                .filter(Section::isFirst)
-                .findFirst()
-                .orElseThrow(RuntimeException::new);
-    }
-
-    private void appendStations(Stations stations, Section section) {
-        Station lastStation = stations.lastStation();
-        if (lastStation.equals(section.getUpStation())) {
-            stations.add(section.getDownStation());
-        }
-    }
-
     public void delete(Long stationId) {
         if (hasLastOneSection()) {
             throw new LastOneSectionException();
@@ -99,7 +106,9 @@ public class Sections {
         if (!lastSection.isDownStation(stationId)) {
             throw new NotDownStationException();
         }
-        sections.remove(lastSection);
+        buildIndexIfAbsent();
+        sections.remove(sections.size() - 1);
+        unindex(lastSection);
     }
 
     private boolean hasLastOneSection() {
@@ -109,4 +118,21 @@ public class Sections {
     public boolean isEmpty() {
         return sections.isEmpty();
     }
+
+    private void buildIndexIfAbsent() {
+        if (stationIds != null) {
+            return;
+        }
+        stationIds = new HashSet<>();
+        sections.forEach(this::index);
+    }
+
+    private void index(Section section) {
+        stationIds.add(section.getUpStationId());
+        stationIds.add(section.getDownStationId());
+    }
+
+    private void unindex(Section section) {
+        stationIds.remove(section.getDownStationId());
+    }
 }
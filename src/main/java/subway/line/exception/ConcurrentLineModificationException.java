@@ -0,0 +1,10 @@
+package subway.line.exception;
+
+public class ConcurrentLineModificationException extends IllegalStateException {
+
+    private static final String message = "다른 요청이 같은 노선을 수정하고 있습니다. 잠시 후 다시 시도해 주세요.";
+
+    public ConcurrentLineModificationException() {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package subway.line.exception;
+
+public class InvalidDistanceException extends IllegalArgumentException {
+    private static final String message = "구간 거리는 0보다 커야 합니다.";
+
+    public InvalidDistanceException() {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package subway.line.exception;
+
+public class InvalidSectionRequestException extends IllegalArgumentException {
+
+    private static final String message = "구간에는 상행역과 하행역이 필요합니다.";
+
+    public InvalidSectionRequestException() {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package subway.line.exception;
+
+public class InvalidStationSequenceException extends IllegalArgumentException {
+
+    private static final String message = "노선에는 두 개 이상의 역과 역 사이마다 하나의 거리가 필요합니다.";
+
+    public InvalidStationSequenceException() {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package subway.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * subway.logging.access.body-sample-rate 가 0 보다 클 때만 표본 본문 수집 필터를 등록한다.
+ * 전역 TeeFilter(logback.access.tee-filter.enabled)는 모든 요청의 본문을 버퍼에 담으므로 켜지 않는다.
+ */
+@Configuration
+@ConditionalOnExpression("${subway.logging.access.body-sample-rate:0} > 0")
+public class AccessLogConfig {
+
+    @Bean
+    public FilterRegistrationBean<SampledTeeFilter> sampledTeeFilter(
+            @Value("${subway.logging.access.body-sample-rate}") double bodySampleRate) {
+        return new FilterRegistrationBean<>(new SampledTeeFilter(bodySampleRate));
+    }
+}
@@ -0,0 +1,16 @@
+package subway.logging;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+/**
+ * 접근 로그를 링 버퍼에 넣고 별도 스레드에서 기록한다.
+ * 요청이 끝나면 요청/응답 객체를 재사용하므로 큐에 넣기 전에 필요한 값을 이벤트에 복사해 둔다.
+ */
+public class AsyncAccessAppender extends AsyncAppenderBase<IAccessEvent> {
+
+    @Override
+    protected void preprocess(IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+}
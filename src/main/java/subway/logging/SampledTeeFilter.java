@@ -0,0 +1,36 @@
+package subway.logging;
+
+import ch.qos.logback.access.servlet.TeeFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * rate(0.0 ~ 1.0) 비율로 뽑힌 요청만 TeeFilter 로 요청/응답 본문을 버퍼에 담고, 뽑혔다는 표시를 요청 속성에 남긴다.
+ * 뽑히지 않은 요청은 본문을 복사하지 않으므로, 전역 TeeFilter 와 달리 본문 버퍼 비용도 표본 비율만큼만 든다.
+ */
+public class SampledTeeFilter extends TeeFilter {
+
+    public static final String SAMPLED_ATTRIBUTE = "subway.logging.body-sampled";
+
+    private final double rate;
+
+    public SampledTeeFilter(double rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
+        if (rate <= 0 || ThreadLocalRandom.current().nextDouble() >= rate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(SAMPLED_ATTRIBUTE, Boolean.TRUE);
+        super.doFilter(request, response, filterChain);
+    }
+}
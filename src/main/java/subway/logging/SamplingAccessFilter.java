@@ -0,0 +1,19 @@
+package subway.logging;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * SampledTeeFilter 가 표본으로 뽑아 본문을 담아 둔 요청만 통과시킨다.
+ */
+public class SamplingAccessFilter extends Filter<IAccessEvent> {
+
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (Boolean.TRUE.toString().equals(event.getAttribute(SampledTeeFilter.SAMPLED_ATTRIBUTE))) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,64 @@
+package subway.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+/**
+ * /actuator/sqllogging 으로 재시작 없이 org.hibernate.SQL 로그만 켜고 끈다.
+ * 임의의 로거를 바꿀 수 있는 loggers 엔드포인트 대신 SQL 로거 하나만 다루며,
+ * 변경은 subway.logging.sql-toggle.token 과 같은 token 을 보낸 요청만 받는다. 토큰을 설정하지 않으면 변경을 모두 거절한다.
+ */
+@Component
+@WebEndpoint(id = "sqllogging")
+public class SqlLoggingEndpoint {
+
+    static final String SQL_LOGGER = "org.hibernate.SQL";
+
+    private final LoggingSystem loggingSystem;
+    private final byte[] token;
+
+    public SqlLoggingEndpoint(LoggingSystem loggingSystem,
+                              @Value("${subway.logging.sql-toggle.token:}") String token) {
+        this.loggingSystem = loggingSystem;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of("enabled", isEnabled());
+    }
+
+    /**
+     * enabled=false 이면 로거 수준을 지우고 설정 파일의 수준으로 되돌린다.
+     */
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> toggle(boolean enabled, @Nullable String token) {
+        if (!isAuthorized(token)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_FORBIDDEN);
+        }
+        loggingSystem.setLogLevel(SQL_LOGGER, enabled ? LogLevel.DEBUG : null);
+        return new WebEndpointResponse<>(status());
+    }
+
+    private boolean isAuthorized(String candidate) {
+        return token.length > 0 && candidate != null
+                && MessageDigest.isEqual(token, candidate.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isEnabled() {
+        LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(SQL_LOGGER);
+        return configuration != null && configuration.getEffectiveLevel().ordinal() <= LogLevel.DEBUG.ordinal();
+    }
+}
@@ -0,0 +1,48 @@
+package subway.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 요청 스레드에서 실행된 Hibernate SQL 문 수를 센다. start() 로 시작한 스레드에서만 세므로
+ * 백그라운드 작업의 SQL 은 세지 않는다. 이미 등록된 StatementInspector 가 있으면 그 뒤에 이어 붙인다.
+ */
+@Component
+public class StatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<long[]> counts = new ThreadLocal<>();
+
+    private StatementInspector delegate = sql -> sql;
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return delegate.inspect(sql);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        Object existing = hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+        if (existing instanceof StatementInspector) {
+            delegate = (StatementInspector) existing;
+        }
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    public void start() {
+        counts.set(new long[1]);
+    }
+
+    public long stop() {
+        long[] count = counts.get();
+        counts.remove();
+        return count == null ? 0 : count[0];
+    }
+}
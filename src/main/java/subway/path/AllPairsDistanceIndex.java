@@ -0,0 +1,126 @@
+package subway.path;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * subway.path.all-pairs.enabled=true 일 때 경로 그래프가 바뀔 때마다 백그라운드에서 모든 역 쌍의 최단 거리를 다시 계산한다.
+ * 계산된 행렬의 그래프 버전이 현재 그래프와 같을 때만 조회에 사용하고, 그 외에는 빈 값을 돌려 다익스트라로 넘긴다.
+ */
+@Component
+public class AllPairsDistanceIndex implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AllPairsDistanceIndex.class);
+
+    private final PathGraph pathGraph;
+    private final boolean enabled;
+    private final int maxStations;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "all-pairs-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ForkJoinPool rowPool;
+    private boolean closed;
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    private volatile AllPairsDistances distances;
+    private volatile long lastRebuildMillis;
+
+    public AllPairsDistanceIndex(PathGraph pathGraph,
+                                 @Value("${subway.path.all-pairs.enabled:false}") boolean enabled,
+                                 @Value("${subway.path.all-pairs.max-stations:5000}") int maxStations) {
+        if (maxStations > AllPairsDistances.MAX_VERTEX_COUNT) {
+            throw new IllegalArgumentException(String.format(
+                    "subway.path.all-pairs.max-stations 는 %d 이하여야 합니다: %d", AllPairsDistances.MAX_VERTEX_COUNT, maxStations));
+        }
+        this.pathGraph = pathGraph;
+        this.enabled = enabled;
+        this.maxStations = maxStations;
+    }
+
+    public void requestRebuild() {
+        if (enabled && rebuildRequested.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        rebuildRequested.set(false);
+        PathGraphSnapshot snapshot = pathGraph.snapshot();
+        if (snapshot.vertexCount() > maxStations) {
+            log.warn("all-pairs distance matrix skipped: {} stations exceed limit {}", snapshot.vertexCount(), maxStations);
+            distances = null;
+            return;
+        }
+
+        long start = System.nanoTime();
+        AllPairsDistances computed = AllPairsDistances.compute(snapshot, rowPool());
+        lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        distances = computed;
+        log.info("all-pairs distance matrix rebuilt: version={}, stations={}, bytes={}, millis={}",
+                computed.getVersion(), snapshot.vertexCount(), computed.memoryBytes(), lastRebuildMillis);
+    }
+
+    /**
+     * 꺼져 있으면 풀을 만들지 않도록 처음 재계산할 때 만든다. 종료된 뒤에는 새로 만들지 않는다.
+     */
+    private synchronized ForkJoinPool rowPool() {
+        if (closed) {
+            throw new IllegalStateException("all-pairs distance index is shut down");
+        }
+        if (rowPool == null) {
+            rowPool = new ForkJoinPool();
+        }
+        return rowPool;
+    }
+
+    public Optional<ShortestPath> findShortestPath(Long sourceStationId, Long targetStationId) {
+        AllPairsDistances current = distances;
+        if (current == null || current.getVersion() != pathGraph.getVersion()) {
+            return Optional.empty();
+        }
+        return current.findShortestPath(sourceStationId, targetStationId);
+    }
+
+    public long getMemoryBytes() {
+        AllPairsDistances current = distances;
+        return current == null ? 0 : current.memoryBytes();
+    }
+
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.path.all-pairs.memory", this, AllPairsDistanceIndex::getMemoryBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        TimeGauge.builder("subway.path.all-pairs.rebuild", this, TimeUnit.MILLISECONDS, AllPairsDistanceIndex::getLastRebuildMillis)
+                .register(registry);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        closed = true;
+        rebuildExecutor.shutdownNow();
+        if (rowPool != null) {
+            rowPool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package subway.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 스냅샷의 모든 정점 쌍 최단 거리를 정점 번호로 색인한 int[] 행렬(행 우선)로 들고 있는다.
+ * 각 행은 출발 정점 하나에 대한 다익스트라 결과이며, 행 단위로 fork-join 병렬 계산한다.
+ */
+class AllPairsDistances {
+
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+    /**
+     * 행렬 크기(정점 수의 제곱)가 int 배열 길이를 넘지 않는 최대 정점 수. floor(sqrt(Integer.MAX_VALUE)) 이다.
+     */
+    static final int MAX_VERTEX_COUNT = 46_340;
+    private static final int SOURCES_PER_TASK = 16;
+
+    private final PathGraphSnapshot snapshot;
+    private final int[] matrix;
+
+    private AllPairsDistances(PathGraphSnapshot snapshot, int[] matrix) {
+        this.snapshot = snapshot;
+        this.matrix = matrix;
+    }
+
+    static AllPairsDistances compute(PathGraphSnapshot snapshot, ForkJoinPool pool) {
+        int vertexCount = snapshot.vertexCount();
+        int[] matrix = new int[Math.multiplyExact(vertexCount, vertexCount)];
+        pool.invoke(new RowsTask(snapshot, matrix, 0, vertexCount));
+        return new AllPairsDistances(snapshot, matrix);
+    }
+
+    long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    long memoryBytes() {
+        return (long) matrix.length * Integer.BYTES;
+    }
+
+    /**
+     * 행렬에서 거리를 O(1)로 읽고, 각 단계에서 "간선 + 남은 거리 = 현재 거리"를 만족하는 이웃을 따라가 경로를 복원한다.
+     * 남은 거리가 줄어드는 이웃만 따라가므로 거리가 0 인 간선이 있어도 같은 정점 사이를 오가지 않는다.
+     */
+    Optional<ShortestPath> findShortestPath(Long sourceStationId, Long targetStationId) {
+        Integer source = snapshot.vertexOf(sourceStationId);
+        Integer target = snapshot.vertexOf(targetStationId);
+        if (source == null || target == null || distance(source, target) == UNREACHABLE) {
+            return Optional.empty();
+        }
+
+        List<Long> stationIds = new ArrayList<>();
+        stationIds.add(sourceStationId);
+        int vertex = source;
+        while (vertex != target && stationIds.size() <= snapshot.vertexCount()) {
+            vertex = nextVertex(vertex, target);
+            stationIds.add(snapshot.stationIdOf(vertex));
+        }
+        return Optional.of(new ShortestPath(stationIds, distance(source, target)));
+    }
+
+    private int nextVertex(int vertex, int target) {
+        int remaining = distance(vertex, target);
+        for (int edge = snapshot.edgeStart(vertex); edge < snapshot.edgeEnd(vertex); edge++) {
+            int next = snapshot.target(edge);
+            int nextRemaining = distance(next, target);
+            if (nextRemaining < remaining && snapshot.distance(edge) + nextRemaining == remaining) {
+                return next;
+            }
+        }
+        throw new IllegalStateException("최단 거리 행렬이 그래프와 일치하지 않습니다.");
+    }
+
+    private int distance(int source, int target) {
+        return matrix[source * snapshot.vertexCount() + target];
+    }
+
+    private static class RowsTask extends RecursiveAction {
+        private final PathGraphSnapshot snapshot;
+        private final int[] matrix;
+        private final int from;
+        private final int to;
+
+        private RowsTask(PathGraphSnapshot snapshot, int[] matrix, int from, int to) {
+            this.snapshot = snapshot;
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SOURCES_PER_TASK) {
+                for (int source = from; source < to; source++) {
+                    fillRow(source);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowsTask(snapshot, matrix, from, middle), new RowsTask(snapshot, matrix, middle, to));
+        }
+
+        private void fillRow(int source) {
+            int vertexCount = snapshot.vertexCount();
+            int rowOffset = source * vertexCount;
+            Arrays.fill(matrix, rowOffset, rowOffset + vertexCount, UNREACHABLE);
+
+            IndexedMinHeap heap = new IndexedMinHeap(vertexCount);
+            matrix[rowOffset + source] = 0;
+            heap.insertOrDecrease(source, 0);
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                int vertexDistance = matrix[rowOffset + vertex];
+                for (int edge = snapshot.edgeStart(vertex); edge < snapshot.edgeEnd(vertex); edge++) {
+                    int next = snapshot.target(edge);
+                    int distance = vertexDistance + snapshot.distance(edge);
+                    if (distance < matrix[rowOffset + next]) {
+                        matrix[rowOffset + next] = distance;
+                        heap.insertOrDecrease(next, distance);
+                    }
+                }
+            }
+        }
+    }
+}
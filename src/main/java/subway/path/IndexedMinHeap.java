@@ -0,0 +1,90 @@
+package subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 정점 번호(0 ~ capacity-1)를 원소로 갖는 이진 최소 힙.
+ * 원소마다 힙 내 위치를 기억하므로 키 감소(decrease-key)를 O(log n)에 처리하며, 박싱 없이 int 배열만 사용한다.
+ */
+class IndexedMinHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] keys;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void insertOrDecrease(int vertex, int key) {
+        if (positions[vertex] == ABSENT) {
+            heap[size] = vertex;
+            positions[vertex] = size;
+            keys[vertex] = key;
+            siftUp(size++);
+            return;
+        }
+        if (key < keys[vertex]) {
+            keys[vertex] = key;
+            siftUp(positions[vertex]);
+        }
+    }
+
+    int poll() {
+        int min = heap[0];
+        positions[min] = ABSENT;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void siftUp(int index) {
+        int vertex = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[heap[parent]] <= keys[vertex]) {
+                break;
+            }
+            move(heap[parent], index);
+            index = parent;
+        }
+        move(vertex, index);
+    }
+
+    private void siftDown(int index) {
+        int vertex = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            if (keys[vertex] <= keys[heap[child]]) {
+                break;
+            }
+            move(heap[child], index);
+            index = child;
+        }
+        move(vertex, index);
+    }
+
+    private void move(int vertex, int index) {
+        heap[index] = vertex;
+        positions[vertex] = index;
+    }
+}
@@ -0,0 +1,205 @@
+package subway.path;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모든 노선의 구간을 양방향 가중치 간선으로 갖는 메모리 그래프.
+ * 역 ID 를 0 부터 시작하는 정점 번호로 바꿔 배열 기반으로 다익스트라를 수행하고,
+ * 노선이 바뀌면 해당 노선의 간선만 교체하고, 간선이 하나도 남지 않은 정점은 지운 뒤 정점 번호를 다시 매긴다.
+ * 거리가 0 이하인 구간은 최단 경로를 정의할 수 없으므로 간선으로 넣지 않는다.
+ */
+@Component
+public class PathGraph {
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> vertexByStationId = new HashMap<>();
+    private final List<Long> stationIdByVertex = new ArrayList<>();
+    private final List<List<Edge>> adjacency = new ArrayList<>();
+    private final Map<Long, List<Edge>> edgesByLineId = new HashMap<>();
+    private volatile long version;
+
+    public void reload(List<SectionEdge> sectionEdges) {
+        lock.writeLock().lock();
+        try {
+            vertexByStationId.clear();
+            stationIdByVertex.clear();
+            adjacency.clear();
+            edgesByLineId.clear();
+            sectionEdges.forEach(this::addEdge);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceLine(Long lineId, List<SectionEdge> sectionEdges) {
+        lock.writeLock().lock();
+        try {
+            List<Edge> edges = edgesByLineId.remove(lineId);
+            if (edges != null) {
+                edges.forEach(edge -> adjacency.get(edge.from).remove(edge));
+            }
+            sectionEdges.forEach(this::addEdge);
+            removeIsolatedVertices();
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeIsolatedVertices() {
+        if (adjacency.stream().noneMatch(List::isEmpty)) {
+            return;
+        }
+        int[] renumbered = new int[stationIdByVertex.size()];
+        List<Long> stationIds = new ArrayList<>();
+        List<List<Edge>> edges = new ArrayList<>();
+        vertexByStationId.clear();
+        for (int vertex = 0; vertex < renumbered.length; vertex++) {
+            if (adjacency.get(vertex).isEmpty()) {
+                renumbered[vertex] = -1;
+                continue;
+            }
+            renumbered[vertex] = stationIds.size();
+            vertexByStationId.put(stationIdByVertex.get(vertex), stationIds.size());
+            stationIds.add(stationIdByVertex.get(vertex));
+            edges.add(adjacency.get(vertex));
+        }
+        edgesByLineId.values().forEach(lineEdges -> lineEdges.forEach(edge -> edge.renumber(renumbered)));
+        stationIdByVertex.clear();
+        stationIdByVertex.addAll(stationIds);
+        adjacency.clear();
+        adjacency.addAll(edges);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 현재 그래프를 인접 배열(CSR) 형태의 불변 스냅샷으로 복사한다.
+     */
+    PathGraphSnapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            int vertexCount = stationIdByVertex.size();
+            long[] stationIds = new long[vertexCount];
+            int[] offsets = new int[vertexCount + 1];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                stationIds[vertex] = stationIdByVertex.get(vertex);
+                offsets[vertex + 1] = offsets[vertex] + adjacency.get(vertex).size();
+            }
+            int[] targets = new int[offsets[vertexCount]];
+            int[] distances = new int[offsets[vertexCount]];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                int index = offsets[vertex];
+                for (Edge edge : adjacency.get(vertex)) {
+                    targets[index] = edge.to;
+                    distances[index++] = edge.distance;
+                }
+            }
+            return new PathGraphSnapshot(version, new HashMap<>(vertexByStationId), stationIds, offsets, targets, distances);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addEdge(SectionEdge sectionEdge) {
+        if (sectionEdge.getDistance() <= 0) {
+            return;
+        }
+        int up = vertexOf(sectionEdge.getUpStationId());
+        int down = vertexOf(sectionEdge.getDownStationId());
+        List<Edge> lineEdges = edgesByLineId.computeIfAbsent(sectionEdge.getLineId(), lineId -> new ArrayList<>());
+        for (Edge edge : List.of(new Edge(up, down, sectionEdge.getDistance()), new Edge(down, up, sectionEdge.getDistance()))) {
+            adjacency.get(edge.from).add(edge);
+            lineEdges.add(edge);
+        }
+    }
+
+    private int vertexOf(Long stationId) {
+        return vertexByStationId.computeIfAbsent(stationId, id -> {
+            stationIdByVertex.add(id);
+            adjacency.add(new ArrayList<>());
+            return stationIdByVertex.size() - 1;
+        });
+    }
+
+    public Optional<ShortestPath> findShortestPath(Long sourceStationId, Long targetStationId) {
+        lock.readLock().lock();
+        try {
+            Integer source = vertexByStationId.get(sourceStationId);
+            Integer target = vertexByStationId.get(targetStationId);
+            if (source == null || target == null) {
+                return Optional.empty();
+            }
+            return dijkstra(source, target);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Optional<ShortestPath> dijkstra(int source, int target) {
+        int vertexCount = stationIdByVertex.size();
+        int[] distances = new int[vertexCount];
+        int[] previous = new int[vertexCount];
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(previous, -1);
+
+        IndexedMinHeap heap = new IndexedMinHeap(vertexCount);
+        distances[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            if (vertex == target) {
+                break;
+            }
+            for (Edge edge : adjacency.get(vertex)) {
+                int distance = distances[vertex] + edge.distance;
+                if (distance < distances[edge.to]) {
+                    distances[edge.to] = distance;
+                    previous[edge.to] = vertex;
+                    heap.insertOrDecrease(edge.to, distance);
+                }
+            }
+        }
+
+        if (distances[target] == UNREACHABLE) {
+            return Optional.empty();
+        }
+        LinkedList<Long> stationIds = new LinkedList<>();
+        for (int vertex = target; vertex != -1; vertex = previous[vertex]) {
+            stationIds.addFirst(stationIdByVertex.get(vertex));
+        }
+        return Optional.of(new ShortestPath(stationIds, distances[target]));
+    }
+
+    private static class Edge {
+        private int from;
+        private int to;
+        private final int distance;
+
+        private Edge(int from, int to, int distance) {
+            this.from = from;
+            this.to = to;
+            this.distance = distance;
+        }
+
+        private void renumber(int[] renumbered) {
+            from = renumbered[from];
+            to = renumbered[to];
+        }
+    }
+}
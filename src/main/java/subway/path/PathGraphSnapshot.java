@@ -0,0 +1,59 @@
+package subway.path;
+
+import java.util.Map;
+
+/**
+ * 특정 버전의 경로 그래프를 배열로 펼친 불변 스냅샷.
+ * 정점 v 의 간선은 targets/distances 의 [offsets[v], offsets[v + 1]) 구간에 있다.
+ */
+class PathGraphSnapshot {
+
+    private final long version;
+    private final Map<Long, Integer> vertexByStationId;
+    private final long[] stationIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+
+    PathGraphSnapshot(long version, Map<Long, Integer> vertexByStationId, long[] stationIds,
+                      int[] offsets, int[] targets, int[] distances) {
+        this.version = version;
+        this.vertexByStationId = vertexByStationId;
+        this.stationIds = stationIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    Integer vertexOf(Long stationId) {
+        return vertexByStationId.get(stationId);
+    }
+
+    long stationIdOf(int vertex) {
+        return stationIds[vertex];
+    }
+
+    int vertexCount() {
+        return stationIds.length;
+    }
+
+    int edgeStart(int vertex) {
+        return offsets[vertex];
+    }
+
+    int edgeEnd(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    int target(int edge) {
+        return targets[edge];
+    }
+
+    int distance(int edge) {
+        return distances[edge];
+    }
+}
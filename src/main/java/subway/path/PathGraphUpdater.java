@@ -0,0 +1,43 @@
+package subway.path;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.line.LineChangedEvent;
+
+@Component
+public class PathGraphUpdater {
+
+    private PathGraph pathGraph;
+
+    private SectionEdgeRepository sectionEdgeRepository;
+
+    private AllPairsDistanceIndex allPairsDistanceIndex;
+
+    public PathGraphUpdater(PathGraph pathGraph, SectionEdgeRepository sectionEdgeRepository,
+                            AllPairsDistanceIndex allPairsDistanceIndex) {
+        this.pathGraph = pathGraph;
+        this.sectionEdgeRepository = sectionEdgeRepository;
+        this.allPairsDistanceIndex = allPairsDistanceIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        pathGraph.reload(sectionEdgeRepository.findAllEdges());
+        allPairsDistanceIndex.requestRebuild();
+    }
+
+    /**
+     * 노선 간선을 읽고 교체하는 동안 다른 노선 변경의 읽기/교체가 끼어들지 않도록 한 번에 하나씩 처리한다.
+     * 각 리스너는 자기 커밋 뒤에 읽으므로, 늦게 교체하는 쪽이 항상 나중 커밋까지 본 간선을 넣는다.
+     * 커밋한 트랜잭션의 자원이 아직 묶여 있으므로 그 커넥션으로 읽고 커넥션을 하나 더 잡지 않는다.
+     */
+    @TransactionalEventListener
+    public synchronized void onLineChanged(LineChangedEvent event) {
+        pathGraph.replaceLine(event.getLineId(), sectionEdgeRepository.findEdgesByLineId(event.getLineId()));
+        allPairsDistanceIndex.requestRebuild();
+    }
+}
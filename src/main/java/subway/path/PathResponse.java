@@ -0,0 +1,24 @@
+package subway.path;
+
+import subway.station.StationResponse;
+
+import java.util.List;
+
+public class PathResponse {
+
+    private List<StationResponse> stations;
+    private Integer distance;
+
+    public PathResponse(List<StationResponse> stations, Integer distance) {
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+}
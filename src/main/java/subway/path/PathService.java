@@ -0,0 +1,59 @@
+package subway.path;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.path.exception.NotConnectedPathException;
+import subway.path.exception.SameSourceAndTargetException;
+import subway.station.Station;
+import subway.station.StationRepository;
+import subway.station.StationResponse;
+import subway.station.exception.NotExistStationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class PathService {
+
+    private PathGraph pathGraph;
+
+    private AllPairsDistanceIndex allPairsDistanceIndex;
+
+    private StationRepository stationRepository;
+
+    public PathService(PathGraph pathGraph, AllPairsDistanceIndex allPairsDistanceIndex, StationRepository stationRepository) {
+        this.pathGraph = pathGraph;
+        this.allPairsDistanceIndex = allPairsDistanceIndex;
+        this.stationRepository = stationRepository;
+    }
+
+    public PathResponse findPath(Long source, Long target) {
+        if (source.equals(target)) {
+            throw new SameSourceAndTargetException();
+        }
+        if (findStationsBy(List.of(source, target)).size() != 2) {
+            throw new NotExistStationException();
+        }
+        ShortestPath path = allPairsDistanceIndex.findShortestPath(source, target)
+                .or(() -> pathGraph.findShortestPath(source, target))
+                .orElseThrow(NotConnectedPathException::new);
+        return new PathResponse(createStationResponses(path.getStationIds()), path.getDistance());
+    }
+
+    private List<StationResponse> createStationResponses(List<Long> stationIds) {
+        Map<Long, Station> stations = findStationsBy(stationIds);
+        return stationIds.stream()
+                .map(stations::get)
+                .map(station -> new StationResponse(station.getId(), station.getName()))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Station> findStationsBy(List<Long> stationIds) {
+        return stationRepository.findAllById(stationIds)
+                .stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+    }
+}
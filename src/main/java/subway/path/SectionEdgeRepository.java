@@ -0,0 +1,18 @@
+package subway.path;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import subway.line.Section;
+
+import java.util.List;
+
+public interface SectionEdgeRepository extends Repository<Section, Long> {
+
+    @Query("select new subway.path.SectionEdge(s.line.id, s.upStation.id, s.downStation.id, s.distance) from Section s")
+    List<SectionEdge> findAllEdges();
+
+    @Query("select new subway.path.SectionEdge(s.line.id, s.upStation.id, s.downStation.id, s.distance) from Section s " +
+            "where s.line.id = :lineId")
+    List<SectionEdge> findEdgesByLineId(@Param("lineId") Long lineId);
+}
@@ -0,0 +1,22 @@
+package subway.path;
+
+import java.util.List;
+
+public class ShortestPath {
+
+    private final List<Long> stationIds;
+    private final int distance;
+
+    public ShortestPath(List<Long> stationIds, int distance) {
+        this.stationIds = stationIds;
+        this.distance = distance;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,10 @@
+package subway.path.exception;
+
+public class NotConnectedPathException extends IllegalArgumentException {
+
+    private static final String message = "출발역과 도착역이 연결되어 있지 않습니다.";
+
+    public NotConnectedPathException() {
+        super(message);
+    }
+}
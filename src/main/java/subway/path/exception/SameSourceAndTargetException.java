@@ -0,0 +1,10 @@
+package subway.path.exception;
+
+public class SameSourceAndTargetException extends IllegalArgumentException {
+
+    private static final String message = "출발역과 도착역이 같습니다.";
+
+    public SameSourceAndTargetException() {
+        super(message);
+    }
+}
@@ -1,12 +1,18 @@
 package subway.station;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subway.station")
 public class Station {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_id_generator")
+    @SequenceGenerator(name = "station_id_generator", sequenceName = "station_seq", allocationSize = 50)
     private Long id;
     @Column(length = 20, nullable = false)
     private String name;
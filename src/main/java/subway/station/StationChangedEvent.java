@@ -0,0 +1,34 @@
+package subway.station;
+
+import java.util.List;
+
+/**
+ * 역이 추가되거나 삭제되었음을 알린다. 새로 추가된 역은 아직 어느 노선에도 없으므로
+ * 노선 응답 캐시는 추가 이벤트를 무시할 수 있다.
+ */
+public class StationChangedEvent {
+
+    private final List<Long> stationIds;
+    private final boolean creation;
+
+    private StationChangedEvent(List<Long> stationIds, boolean creation) {
+        this.stationIds = stationIds;
+        this.creation = creation;
+    }
+
+    public static StationChangedEvent created(List<Long> stationIds) {
+        return new StationChangedEvent(stationIds, true);
+    }
+
+    public static StationChangedEvent deleted(Long stationId) {
+        return new StationChangedEvent(List.of(stationId), false);
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public boolean isCreation() {
+        return creation;
+    }
+}
@@ -1,8 +1,20 @@
 package subway.station;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.web.KeysetPages;
+import subway.web.NdjsonWriter;
+import subway.web.SerializedResponseCache;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -10,8 +22,18 @@ import java.util.List;
 public class StationController {
     private StationService stationService;
 
-    public StationController(StationService stationService) {
+    private SerializedResponseCache serializedResponseCache;
+
+    private ObjectReader stationRequestReader;
+
+    private ObjectMapper objectMapper;
+
+    public StationController(StationService stationService, SerializedResponseCache serializedResponseCache,
+                             ObjectMapper objectMapper) {
         this.stationService = stationService;
+        this.serializedResponseCache = serializedResponseCache;
+        this.stationRequestReader = objectMapper.readerFor(StationRequest.class);
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/stations")
@@ -20,9 +42,38 @@ public class StationController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
+    @PostMapping(value = "/stations/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<StationResponse>> createStations(@RequestBody List<StationRequest> stationRequests) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(stationService.saveStations(stationRequests.iterator()));
+    }
+
+    @PostMapping(value = "/stations/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<StationResponse>> createStations(InputStream body) throws IOException {
+        try (MappingIterator<StationRequest> stationRequests = stationRequestReader.readValues(body)) {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(stationService.saveStations(stationRequests));
+        }
+    }
+
     @GetMapping(value = "/stations")
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<byte[]> showStations(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serializedResponseCache.get(SerializedResponseCache.Key.STATIONS, stationService::findAllStations)
+                .toResponseEntity(ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping(value = "/stations", params = "limit")
+    public ResponseEntity<List<StationResponse>> showStations(@RequestParam(value = "after", defaultValue = "0") Long after,
+                                                              @RequestParam("limit") int limit) {
+        return KeysetPages.toResponseEntity("/stations", stationService.findStationsAfter(after, KeysetPages.pageable(limit)), StationResponse::getId);
+    }
+
+    @GetMapping(value = "/stations/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStations() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> KeysetPages.forEach(stationService::findStationsAfter, StationResponse::getId, new NdjsonWriter<>(objectMapper, output)));
     }
 
     @DeleteMapping("/stations/{id}")
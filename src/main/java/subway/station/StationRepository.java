@@ -1,7 +1,27 @@
 package subway.station;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface StationRepository extends JpaRepository<Station, Long> {
     String findNameById(Long stationId);
-}
\ No newline at end of file
+
+    /**
+     * 응답에 필요한 (id, name) 만 읽는다. 엔티티가 아니므로 영속성 컨텍스트와 dirty checking 스냅샷을 거치지 않는다.
+     */
+    @Query("select new subway.station.StationResponse(s.id, s.name) from Station s order by s.id")
+    List<StationResponse> findAllResponses();
+
+    @Query("select new subway.station.StationResponse(s.id, s.name) from Station s where s.id in :ids order by s.id")
+    List<StationResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new subway.station.StationResponse(s.id, s.name) from Station s where s.id > :after order by s.id")
+    Slice<StationResponse> findResponsesAfter(@Param("after") Long after, Pageable pageable);
+
+}
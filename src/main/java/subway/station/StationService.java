@@ -1,35 +1,117 @@
 package subway.station;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import subway.topology.TopologyReadModel;
+import subway.topology.TopologySnapshot;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class StationService {
+
+    private static final String TIMER = "subway.station.service";
+
     private StationRepository stationRepository;
 
-    public StationService(StationRepository stationRepository) {
+    private ApplicationEventPublisher eventPublisher;
+
+    private TopologyReadModel topologyReadModel;
+
+    private EntityManager entityManager;
+
+    private int bulkBatchSize;
+
+    public StationService(StationRepository stationRepository, ApplicationEventPublisher eventPublisher,
+                          TopologyReadModel topologyReadModel, EntityManager entityManager,
+                          @Value("${subway.station.bulk.batch-size:100}") int bulkBatchSize) {
         this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
+        this.topologyReadModel = topologyReadModel;
+        this.entityManager = entityManager;
+        this.bulkBatchSize = bulkBatchSize;
     }
 
+    @Timed(TIMER)
     @Transactional
     public StationResponse saveStation(StationRequest stationRequest) {
         Station station = stationRepository.save(new Station(stationRequest.getName()));
+        eventPublisher.publishEvent(StationChangedEvent.created(List.of(station.getId())));
         return createStationResponse(station);
     }
 
+    /**
+     * 요청을 batch-size 개씩 모아 저장하고 flush 해 JDBC batch insert 로 내보낸다.
+     * 응답은 저장하면서 미리 복사해 두므로 flush 뒤에는 영속성 컨텍스트를 비워 등록 수와 관계없이 메모리를 일정하게 쓴다.
+     * 요청은 Iterator 로 받으므로 NDJSON 본문을 모두 읽기 전에 저장을 시작할 수 있다.
+     */
+    @Timed(TIMER)
+    @Transactional
+    public List<StationResponse> saveStations(Iterator<StationRequest> stationRequests) {
+        List<StationResponse> stationResponses = new ArrayList<>();
+        List<Station> batch = new ArrayList<>(bulkBatchSize);
+        while (stationRequests.hasNext()) {
+            batch.add(new Station(stationRequests.next().getName()));
+            if (batch.size() == bulkBatchSize) {
+                saveBatch(batch, stationResponses);
+            }
+        }
+        saveBatch(batch, stationResponses);
+
+        eventPublisher.publishEvent(StationChangedEvent.created(stationResponses.stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList())));
+        return stationResponses;
+    }
+
+    private void saveBatch(List<Station> batch, List<StationResponse> stationResponses) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        stationRepository.saveAll(batch)
+                .forEach(station -> stationResponses.add(createStationResponse(station)));
+        stationRepository.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+
+    @Timed(TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<StationResponse> findAllStations() {
-        return stationRepository.findAll().stream()
-                .map(this::createStationResponse)
-                .collect(Collectors.toList());
+        return topologyReadModel.read()
+                .map(StationService::createStationResponses)
+                .orElseGet(stationRepository::findAllResponses);
+    }
+
+    @Timed(TIMER)
+    public Slice<StationResponse> findStationsAfter(Long after, Pageable pageable) {
+        return stationRepository.findResponsesAfter(after, pageable);
+    }
+
+    private static List<StationResponse> createStationResponses(TopologySnapshot snapshot) {
+        List<StationResponse> stationResponses = new ArrayList<>(snapshot.stationCount());
+        for (int i = 0; i < snapshot.stationCount(); i++) {
+            stationResponses.add(new StationResponse(snapshot.stationIdAt(i), snapshot.stationNameAt(i)));
+        }
+        return stationResponses;
     }
 
+    @Timed(TIMER)
     @Transactional
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(StationChangedEvent.deleted(id));
     }
 
     private StationResponse createStationResponse(Station station) {
@@ -31,6 +31,10 @@ public class Stations {
                 .collect(Collectors.toList());
     }
 
+    public List<Station> getStations() {
+        return List.copyOf(stations);
+    }
+
     public boolean existStation(Station station) {
         return stations.contains(station);
     }
@@ -0,0 +1,55 @@
+package subway.topology;
+
+import java.util.Arrays;
+
+/**
+ * 읽기 모델에 담긴 노선 하나. 역 ID 를 상행 종점부터 순서대로 담는다.
+ */
+public final class LineView {
+
+    private final long id;
+    private final String name;
+    private final String color;
+    private final long version;
+    private final long[] stationIds;
+
+    LineView(long id, String name, String color, long version, long[] stationIds) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.version = version;
+        this.stationIds = stationIds;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int stationCount() {
+        return stationIds.length;
+    }
+
+    public long stationIdAt(int index) {
+        return stationIds[index];
+    }
+
+    boolean sameAs(LineView other) {
+        return id == other.id
+                && version == other.version
+                && name.equals(other.name)
+                && color.equals(other.color)
+                && Arrays.equals(stationIds, other.stationIds);
+    }
+}
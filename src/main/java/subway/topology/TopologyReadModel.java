@@ -0,0 +1,152 @@
+package subway.topology;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.line.LineChangedEvent;
+import subway.line.LineRepository;
+import subway.station.StationChangedEvent;
+import subway.station.StationRepository;
+import subway.station.StationResponse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 API 가 JPA 를 거치지 않고 읽는 역/노선 읽기 모델.
+ * 애플리케이션이 준비되면 전체를 읽어 들이고, 이후에는 변경이 커밋될 때마다 바뀐 노선이나 역만 다시 읽어 새 스냅샷으로 바꿔 끼운다.
+ * 커밋 뒤의 다시 읽기는 아직 묶여 있는 커밋한 트랜잭션의 자원(커넥션)에 참여해 읽으므로 커넥션을 하나 더 잡지 않는다.
+ * 다시 읽기가 실패하면 스냅샷을 버려 조회가 저장소에서 읽도록 하고, 다음 변경이 커밋될 때 전체를 다시 읽는다.
+ * 다시 읽기와 교체는 한 번에 하나씩 하므로 마지막 커밋 뒤의 다시 읽기가 항상 마지막으로 반영된다.
+ * 응답 캐시가 무효화된 뒤 곧바로 새 스냅샷을 읽을 수 있도록 다른 리스너보다 먼저 실행한다.
+ * subway.read-model.enabled=false 이거나 아직 읽어 들이기 전이면 빈 값을 돌려주고, 호출하는 쪽은 저장소에서 읽는다.
+ */
+@Component
+public class TopologyReadModel {
+
+    private static final Logger log = LoggerFactory.getLogger(TopologyReadModel.class);
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+
+    private final LineRepository lineRepository;
+    private final StationRepository stationRepository;
+    private final TransactionTemplate readTransaction;
+    private final boolean enabled;
+    private final AtomicReference<TopologySnapshot> snapshot = new AtomicReference<>();
+    private boolean dropped;
+
+    public TopologyReadModel(LineRepository lineRepository, StationRepository stationRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${subway.read-model.enabled:true}") boolean enabled) {
+        this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    public Optional<TopologySnapshot> read() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        TopologySnapshot loaded = load();
+        snapshot.set(loaded);
+        dropped = false;
+        log.info("topology read model loaded: stations={}, lines={}", loaded.stationCount(), loaded.lines().size());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public synchronized void onLineChanged(LineChangedEvent event) {
+        long lineId = event.getLineId();
+        refresh(current -> lineRepository.findWithSectionsById(lineId)
+                .map(line -> current.withLine(TopologySnapshot.toView(line)))
+                .orElseGet(() -> current.withoutLine(lineId)));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public synchronized void onStationChanged(StationChangedEvent event) {
+        refresh(current -> {
+            List<StationResponse> stations = findStationsByIdIn(event.getStationIds());
+            Set<Long> removedIds = new HashSet<>(event.getStationIds());
+            removedIds.removeAll(stations.stream().map(StationResponse::getId).collect(Collectors.toSet()));
+            return current.withStations(stations, removedIds);
+        });
+    }
+
+    /**
+     * 대량 등록처럼 ID 가 많아도 IN 절의 바인드 변수 수가 DB 한도를 넘지 않도록 나눠 읽는다.
+     */
+    private List<StationResponse> findStationsByIdIn(List<Long> stationIds) {
+        List<StationResponse> stations = new ArrayList<>(stationIds.size());
+        for (int from = 0; from < stationIds.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = stationIds.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, stationIds.size()));
+            stations.addAll(stationRepository.findResponsesByIdIn(chunk));
+        }
+        return stations;
+    }
+
+    private void refresh(UnaryOperator<TopologySnapshot> refresher) {
+        TopologySnapshot current = snapshot.get();
+        if (current == null && !dropped) {
+            return;
+        }
+        try {
+            snapshot.set(readTransaction.execute(status -> current == null ? readAll() : refresher.apply(current)));
+            dropped = false;
+        } catch (RuntimeException e) {
+            snapshot.set(null);
+            dropped = true;
+            log.error("topology read model refresh failed, reads fall back to repositories until the next change", e);
+        }
+    }
+
+    /**
+     * 저장소에서 새로 읽은 스냅샷과 현재 스냅샷을 비교해 서로 다른 역과 노선을 돌려준다.
+     */
+    public List<String> checkConsistency() {
+        TopologySnapshot current = snapshot.get();
+        if (current == null) {
+            return List.of();
+        }
+        List<String> differences = current.differencesFrom(load());
+        if (!differences.isEmpty()) {
+            log.warn("topology read model differs from database: {}", differences);
+        }
+        return differences;
+    }
+
+    /**
+     * 전체 적재는 재귀 CTE 로 노선별 역 순서를 한 번에 읽는다. 커밋 뒤의 노선 단위 갱신은 엔티티 경로로 읽으므로
+     * 일치 여부 검사가 두 경로를 서로 대조하게 된다.
+     */
+    private TopologySnapshot load() {
+        return readTransaction.execute(status -> readAll());
+    }
+
+    private TopologySnapshot readAll() {
+        return TopologySnapshot.of(
+                stationRepository.findAllResponses(),
+                lineRepository.findAllSummaries(),
+                lineRepository.findAllOrderedStations());
+    }
+}
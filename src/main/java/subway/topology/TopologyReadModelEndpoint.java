@@ -0,0 +1,33 @@
+package subway.topology;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/readmodel 로 읽기 모델과 DB 의 일치 여부를 확인한다.
+ * 호출할 때마다 역과 노선 전체를 다시 읽으므로 공개 포트에는 노출하지 않는다. 필요하면 management.server.port 로 분리한
+ * 내부 포트에서만 management.endpoints.web.exposure.include 에 추가한다.
+ */
+@Component
+@Endpoint(id = "readmodel")
+public class TopologyReadModelEndpoint {
+
+    private final TopologyReadModel topologyReadModel;
+
+    public TopologyReadModelEndpoint(TopologyReadModel topologyReadModel) {
+        this.topologyReadModel = topologyReadModel;
+    }
+
+    @ReadOperation
+    public Map<String, Object> check() {
+        List<String> differences = topologyReadModel.checkConsistency();
+        return Map.of(
+                "loaded", topologyReadModel.read().isPresent(),
+                "consistent", differences.isEmpty(),
+                "differences", differences);
+    }
+}
@@ -0,0 +1,186 @@
+package subway.topology;
+
+import subway.line.Line;
+import subway.line.LineStationRow;
+import subway.line.LineSummary;
+import subway.station.StationResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 모든 역과 노선의 불변 스냅샷. 역은 ID 오름차순 배열로, 노선은 ID 순서의 맵으로 담는다.
+ * 변경은 바뀐 부분만 교체한 새 스냅샷을 만들어 돌려주므로 읽는 쪽은 락 없이 하나의 스냅샷을 끝까지 볼 수 있다.
+ */
+public final class TopologySnapshot {
+
+    static final TopologySnapshot EMPTY = new TopologySnapshot(new long[0], new String[0], new TreeMap<>());
+
+    private final long[] stationIds;
+    private final String[] stationNames;
+    private final TreeMap<Long, LineView> lines;
+
+    private TopologySnapshot(long[] stationIds, String[] stationNames, TreeMap<Long, LineView> lines) {
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.lines = lines;
+    }
+
+    /**
+     * 노선 행과, 노선별로 순서대로 정렬된 역 행으로 스냅샷을 만든다.
+     */
+    static TopologySnapshot of(Collection<StationResponse> stations, List<LineSummary> lines, List<LineStationRow> rows) {
+        Map<Long, long[]> stationIdsByLineId = new HashMap<>();
+        int from = 0;
+        while (from < rows.size()) {
+            Long lineId = rows.get(from).getLineId();
+            int to = from;
+            while (to < rows.size() && rows.get(to).getLineId().equals(lineId)) {
+                to++;
+            }
+            stationIdsByLineId.put(lineId, rows.subList(from, to).stream()
+                    .mapToLong(LineStationRow::getStationId)
+                    .toArray());
+            from = to;
+        }
+
+        TreeMap<Long, LineView> lineViews = new TreeMap<>();
+        lines.forEach(line -> lineViews.put(line.getId(), new LineView(
+                line.getId(),
+                line.getName(),
+                line.getColor(),
+                line.getVersion(),
+                stationIdsByLineId.getOrDefault(line.getId(), new long[0]))));
+        return EMPTY.withStations(stations, List.of()).withLines(lineViews);
+    }
+
+    static LineView toView(Line line) {
+        return new LineView(
+                line.getId(),
+                line.getName(),
+                line.getColor(),
+                line.getVersion(),
+                line.getStationIds().stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * 주어진 역을 추가하거나 이름을 바꾸고, removedIds 의 역은 뺀 새 스냅샷을 만든다.
+     * 바뀐 역만 ID 순으로 정렬한 뒤 기존 배열에서 이진 탐색으로 자리를 찾고, 그 사이 구간은 배열 복사로 옮긴다.
+     * 역 하나가 바뀔 때 정렬이나 색인을 전체로 다시 만들지 않는다.
+     */
+    TopologySnapshot withStations(Collection<StationResponse> upserted, Collection<Long> removedIds) {
+        TreeMap<Long, String> changes = new TreeMap<>();
+        removedIds.forEach(id -> changes.put(id, null));
+        upserted.forEach(station -> changes.put(station.getId(), station.getName()));
+
+        long[] ids = new long[stationIds.length + changes.size()];
+        String[] names = new String[ids.length];
+        int from = 0;
+        int size = 0;
+        for (Map.Entry<Long, String> change : changes.entrySet()) {
+            int position = Arrays.binarySearch(stationIds, from, stationIds.length, change.getKey());
+            int insertion = position >= 0 ? position : -position - 1;
+            System.arraycopy(stationIds, from, ids, size, insertion - from);
+            System.arraycopy(stationNames, from, names, size, insertion - from);
+            size += insertion - from;
+            from = position >= 0 ? insertion + 1 : insertion;
+            if (change.getValue() != null) {
+                ids[size] = change.getKey();
+                names[size] = change.getValue();
+                size++;
+            }
+        }
+        System.arraycopy(stationIds, from, ids, size, stationIds.length - from);
+        System.arraycopy(stationNames, from, names, size, stationIds.length - from);
+        size += stationIds.length - from;
+        return new TopologySnapshot(Arrays.copyOf(ids, size), Arrays.copyOf(names, size), lines);
+    }
+
+    TopologySnapshot withLine(LineView line) {
+        TreeMap<Long, LineView> copy = new TreeMap<>(lines);
+        copy.put(line.getId(), line);
+        return withLines(copy);
+    }
+
+    TopologySnapshot withoutLine(long lineId) {
+        if (!lines.containsKey(lineId)) {
+            return this;
+        }
+        TreeMap<Long, LineView> copy = new TreeMap<>(lines);
+        copy.remove(lineId);
+        return withLines(copy);
+    }
+
+    private TopologySnapshot withLines(TreeMap<Long, LineView> lines) {
+        return new TopologySnapshot(stationIds, stationNames, lines);
+    }
+
+    public int stationCount() {
+        return stationIds.length;
+    }
+
+    public long stationIdAt(int index) {
+        return stationIds[index];
+    }
+
+    public String stationNameAt(int index) {
+        return stationNames[index];
+    }
+
+    public Optional<String> findStationName(long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return index < 0 ? Optional.empty() : Optional.of(stationNames[index]);
+    }
+
+    public Collection<LineView> lines() {
+        return Collections.unmodifiableCollection(lines.values());
+    }
+
+    public Optional<LineView> findLine(long lineId) {
+        return Optional.ofNullable(lines.get(lineId));
+    }
+
+    /**
+     * 두 스냅샷에서 서로 다른 역과 노선을 사람이 읽을 수 있는 형태로 모은다.
+     */
+    List<String> differencesFrom(TopologySnapshot other) {
+        List<String> differences = new ArrayList<>();
+        TreeMap<Long, String> mine = stationNamesById();
+        TreeMap<Long, String> theirs = other.stationNamesById();
+        for (Long id : union(mine.keySet(), theirs.keySet())) {
+            if (!String.valueOf(mine.get(id)).equals(String.valueOf(theirs.get(id)))) {
+                differences.add("station " + id);
+            }
+        }
+        for (Long id : union(lines.keySet(), other.lines.keySet())) {
+            LineView line = lines.get(id);
+            LineView otherLine = other.lines.get(id);
+            if (line == null || otherLine == null || !line.sameAs(otherLine)) {
+                differences.add("line " + id);
+            }
+        }
+        return differences;
+    }
+
+    private TreeMap<Long, String> stationNamesById() {
+        TreeMap<Long, String> names = new TreeMap<>();
+        for (int i = 0; i < stationIds.length; i++) {
+            names.put(stationIds[i], stationNames[i]);
+        }
+        return names;
+    }
+
+    private static Collection<Long> union(Collection<Long> left, Collection<Long> right) {
+        TreeSet<Long> ids = new TreeSet<>(left);
+        ids.addAll(right);
+        return ids;
+    }
+}
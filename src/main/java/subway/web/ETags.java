@@ -0,0 +1,28 @@
+package subway.web;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(String value) {
+        return "\"" + value + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더에 주어진 ETag 중 하나라도 있으면 true. If-None-Match 는 약한 비교를 하므로 W/ 접두어는 무시한다.
+     */
+    public static boolean matches(String ifNoneMatch, String... eTags) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        List<String> candidates = Arrays.asList(eTags);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || candidates.contains(tag));
+    }
+}
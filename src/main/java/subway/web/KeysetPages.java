@@ -0,0 +1,53 @@
+package subway.web;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ?after=&limit= 형태의 키셋 페이지네이션. 다음 페이지가 있으면 마지막 항목의 ID 로 Link 헤더를 만든다.
+ */
+public final class KeysetPages {
+
+    public static final int MAX_LIMIT = 1_000;
+
+    private KeysetPages() {
+    }
+
+    public static Pageable pageable(int limit) {
+        return PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponseEntity(String path, Slice<T> slice, Function<T, Long> idOf) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (slice.hasNext()) {
+            Long lastId = idOf.apply(slice.getContent().get(slice.getNumberOfElements() - 1));
+            response.header(HttpHeaders.LINK, String.format("<%s?after=%d&limit=%d>; rel=\"next\"", path, lastId, slice.getSize()));
+        }
+        return response.body(slice.getContent());
+    }
+
+    /**
+     * 처음부터 다음 페이지가 없을 때까지 MAX_LIMIT 개씩 키셋 페이지를 읽어 차례로 넘긴다.
+     * 페이지마다 따로 읽으므로 느린 클라이언트에 응답을 쓰는 동안 트랜잭션이나 커넥션을 붙잡지 않는다.
+     */
+    public static <T> void forEach(BiFunction<Long, Pageable, Slice<T>> pageAfter, Function<T, Long> idOf, Consumer<T> consumer) {
+        Pageable pageable = pageable(MAX_LIMIT);
+        long after = 0;
+        Slice<T> slice;
+        do {
+            slice = pageAfter.apply(after, pageable);
+            slice.forEach(consumer);
+            if (slice.hasContent()) {
+                after = idOf.apply(slice.getContent().get(slice.getNumberOfElements() - 1));
+            }
+        } while (slice.hasNext());
+    }
+}
@@ -0,0 +1,38 @@
+package subway.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 넘겨받은 값을 한 줄에 하나씩 JSON 으로 써서 NDJSON 응답 본문을 만든다.
+ */
+public class NdjsonWriter<T> implements Consumer<T> {
+
+    private static final int NEW_LINE = '\n';
+
+    private final ObjectWriter writer;
+    private final OutputStream output;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream output) {
+        this.writer = objectMapper.writer();
+        this.output = output;
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            output.write(writer.writeValueAsBytes(value));
+            output.write(NEW_LINE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package subway.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 미리 직렬화한 UTF-8 JSON 본문과 gzip 으로 압축한 본문, 그리고 각각의 강한 ETag.
+ */
+public class SerializedResponse {
+
+    private static final String GZIP = "gzip";
+
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String eTag;
+    private final String gzipETag;
+
+    SerializedResponse(byte[] body, byte[] gzipBody) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+        String digest = DigestUtils.md5DigestAsHex(body);
+        this.eTag = ETags.of(digest);
+        this.gzipETag = ETags.of(digest + "-" + GZIP);
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = gzipBody != null && acceptsGzip(acceptEncoding);
+        String currentETag = gzip ? gzipETag : eTag;
+
+        if (ETags.matches(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(currentETag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(currentETag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(gzipBody);
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Accept-Encoding 의 q 값을 읽어 gzip 을 받는지 판단한다. gzip 이 명시되어 있으면 그 q 값을, 없으면 * 의 q 값을 따르고,
+     * q=0 은 거절로 본다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase();
+            double quality = qualityOf(parts);
+            if (name.equals(GZIP) || name.equals("x-" + GZIP)) {
+                gzipQuality = quality;
+            } else if (name.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,110 @@
+package subway.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.line.LineChangedEvent;
+import subway.station.StationChangedEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목록 조회 응답을 직렬화된 바이트 배열로 보관한다. 데이터가 바뀌어 커밋된 뒤에만 무효화되므로
+ * 캐시가 채워져 있는 동안에는 저장소와 직렬화기를 거치지 않고 응답하거나 304 를 돌려줄 수 있다.
+ */
+@Component
+public class SerializedResponseCache {
+
+    public enum Key {
+        LINES,
+        STATIONS
+    }
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzipEnabled;
+    private final Map<Key, SerializedResponse> responses = new EnumMap<>(Key.class);
+    private final Map<Key, Long> generations = new EnumMap<>(Key.class);
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   @Value("${subway.web.json-cache.enabled:true}") boolean enabled,
+                                   @Value("${subway.web.json-cache.gzip:true}") boolean gzipEnabled) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzipEnabled = gzipEnabled;
+        for (Key key : Key.values()) {
+            generations.put(key, 0L);
+        }
+    }
+
+    public SerializedResponse get(Key key, Supplier<?> loader) {
+        long generation;
+        synchronized (this) {
+            SerializedResponse cached = responses.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            generation = generations.get(key);
+        }
+
+        SerializedResponse response = serialize(loader.get());
+        synchronized (this) {
+            if (enabled && generations.get(key) == generation) {
+                responses.put(key, response);
+            }
+        }
+        return response;
+    }
+
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            return new SerializedResponse(bytes, gzipEnabled ? gzip(bytes) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    @TransactionalEventListener
+    public void onLineChanged(LineChangedEvent event) {
+        evict(Key.LINES);
+    }
+
+    @TransactionalEventListener
+    public void onStationChanged(StationChangedEvent event) {
+        if (event.isCreation()) {
+            evict(Key.STATIONS);
+            return;
+        }
+        evict(Key.STATIONS, Key.LINES);
+    }
+
+    public synchronized void clear() {
+        evict(Key.values());
+    }
+
+    private synchronized void evict(Key... keys) {
+        for (Key key : keys) {
+            responses.remove(key);
+            generations.merge(key, 1L, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package subway.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * subway.web.virtual-threads.enabled=true 이면 Tomcat 이 요청마다 가상 스레드를 하나씩 만들어 처리한다.
+ * 느린 DB 호출을 기다리는 동안 요청 처리 스레드 수(server.tomcat.threads.max)에 묶이지 않는다.
+ * 소스 호환성은 Java 11 로 두고, 실행 JVM 이 Java 21 이상일 때만 켤 수 있도록 API 를 리플렉션으로 찾는다.
+ * DB 커넥션 수는 여전히 커넥션 풀 크기로 제한된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "subway.web.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서 실행할 때만 사용할 수 있습니다.", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package subway.line;
 
-import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeAll;
@@ -9,10 +8,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import subway.util.DatabaseCleanup;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -273,77 +273,208 @@ public class LineAcceptanceTest {
         assertResponseCode(response, HttpStatus.BAD_REQUEST);
     }
 
-    private ExtractableResponse<Response> createLine(Map<String, Object> params) {
-        return RestAssured.given().log().all()
-                .body(params)
-                .contentType(MediaType.APPLICATION_JSON_VALUE)
-                .when().post("/lines")
-                .then().log().all()
-                .extract();
-    }
+    /**
+     * Given: 특정 노선을 조회해 ETag 를 받고,
+     * When: 같은 ETag 로 다시 조회하면,
+     * Then: 304 를 응답하고, 구간을 등록한 뒤에는 변경된 노선을 응답한다.
+     */
+    @DisplayName("노선이 바뀌지 않았으면 304 를 응답한다.")
+    @Test
+    void notModifiedLineTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        String eTag = lookUpLine(lineId).header(HttpHeaders.ETAG);
 
-    private ExtractableResponse<Response> lookUpLines() {
-        return RestAssured.given().log().all()
-                .when().get("/lines")
-                .then().log().all()
-                .extract();
-    }
+        // when
+        ExtractableResponse<Response> response = lookUpLine(lineId, eTag);
+
+        // then
+        assertResponseCode(response, HttpStatus.NOT_MODIFIED);
+
+        // when
+        registerSection(lineId, 홍대역_강남역_구간_PARAM);
+        ExtractableResponse<Response> modifiedResponse = lookUpLine(lineId, eTag);
 
-    private ExtractableResponse<Response> lookUpLine(Long id) {
-        return RestAssured.given().log().all()
-                .when().get("/lines/" + id)
-                .then().log().all()
-                .extract();
+        // then
+        assertResponseCode(modifiedResponse, HttpStatus.OK);
+        assertThat(modifiedResponse.jsonPath().getList("stations.id", Long.class))
+                .containsExactly(분당역_ID, 홍대역_ID, 강남역_ID);
     }
 
-    private ExtractableResponse<Response> modifyLine(Long id, Map<String, Object> params) {
-        return RestAssured.given().log().all()
-                .body(params)
-                .contentType(MediaType.APPLICATION_JSON_VALUE)
-                .when().put("/lines/" + id)
-                .then().log().all()
-                .extract();
+    /**
+     * When: 역 순서와 구간별 거리로 노선을 한 번에 생성하면,
+     * Then: 노선 조회 시 요청한 순서대로 역이 등록되어 있다.
+     */
+    @DisplayName("역 순서 전체로 노선을 한 번에 생성한다.")
+    @Test
+    void createLineWithStationsTest() {
+        // when
+        ExtractableResponse<Response> response = createLineWithStations(
+                List.of(분당역_ID, 홍대역_ID, 강남역_ID, 성수역_ID),
+                List.of(DEFAULT_DISTANCE, DEFAULT_DISTANCE, DEFAULT_DISTANCE));
+
+        // then
+        assertResponseCode(response, HttpStatus.CREATED);
+        assertThat(lookUpStationIds(findId(response))).containsExactly(분당역_ID, 홍대역_ID, 강남역_ID, 성수역_ID);
     }
 
-    private ExtractableResponse<Response> deleteLine(Long id) {
-        return RestAssured.given().log().all()
-                .when().delete("/lines/" + id)
-                .then().log().all()
-                .extract();
+    /**
+     * When: 역 사이 거리의 개수가 맞지 않거나 중복되거나 비어 있는 역으로 노선을 한 번에 생성하면,
+     * Then: 오류를 응답하고 노선은 생성되지 않는다.
+     */
+    @DisplayName("잘못된 역 순서로 노선을 한 번에 생성하면 오류가 발생한다.")
+    @Test
+    void createLineWithInvalidStationsExceptionTest() {
+        // when
+        ExtractableResponse<Response> wrongDistances = createLineWithStations(
+                List.of(분당역_ID, 홍대역_ID, 강남역_ID),
+                List.of(DEFAULT_DISTANCE));
+        ExtractableResponse<Response> duplicatedStation = createLineWithStations(
+                List.of(분당역_ID, 홍대역_ID, 분당역_ID),
+                List.of(DEFAULT_DISTANCE, DEFAULT_DISTANCE));
+        ExtractableResponse<Response> repeatedFirstStation = createLineWithStations(
+                List.of(분당역_ID, 분당역_ID, 홍대역_ID),
+                List.of(DEFAULT_DISTANCE, DEFAULT_DISTANCE));
+        ExtractableResponse<Response> nullStation = createLineWithStations(
+                Arrays.asList(분당역_ID, null, 강남역_ID),
+                List.of(DEFAULT_DISTANCE, DEFAULT_DISTANCE));
+
+        // then
+        assertResponseCode(wrongDistances, HttpStatus.BAD_REQUEST);
+        assertResponseCode(duplicatedStation, HttpStatus.BAD_REQUEST);
+        assertResponseCode(repeatedFirstStation, HttpStatus.BAD_REQUEST);
+        assertResponseCode(nullStation, HttpStatus.BAD_REQUEST);
+        assertThat(findNames(lookUpLines())).isEmpty();
     }
 
-    private ExtractableResponse<Response> registerSection(Long id, Map<String, Object> params) {
-        return RestAssured.given().log().all()
-                .body(params)
-                .contentType(MediaType.APPLICATION_JSON_VALUE)
-                .when().post(String.format("/lines/%d/sections", id))
-                .then().log().all()
-                .extract();
+    /**
+     * Given: 특정 노선이 등록되어 있고,
+     * When: 여러 구간을 한 번에 등록하면,
+     * Then: 노선 조회 시 구간이 순서대로 등록되어 있다.
+     */
+    @DisplayName("노선에 여러 구간을 한 번에 등록한다.")
+    @Test
+    void registerSectionsBatchTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+
+        // when
+        ExtractableResponse<Response> response = registerSections(lineId, List.of(홍대역_강남역_구간_PARAM, 강남역_성수역_구간_PARAM));
+
+        // then
+        assertResponseCode(response, HttpStatus.CREATED);
+        assertThat(lookUpStationIds(lineId)).containsExactly(분당역_ID, 홍대역_ID, 강남역_ID, 성수역_ID);
     }
 
-    private ExtractableResponse<Response> deleteSection(Long id, Long stationId) {
-        return RestAssured.given().log().all()
-                .when().delete(String.format("/lines/%s/sections?stationId=%s", id, stationId))
-                .then().log().all()
-                .extract();
+    /**
+     * Given: 특정 노선이 등록되어 있고,
+     * When: 규칙에 맞지 않는 구간이 포함된 여러 구간을 한 번에 등록하면,
+     * Then: 오류를 응답하고 어떤 구간도 등록되지 않는다.
+     */
+    @DisplayName("여러 구간 중 하나라도 잘못되면 아무 구간도 등록되지 않는다.")
+    @Test
+    void registerSectionsBatchAtomicTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+
+        // when
+        ExtractableResponse<Response> response = registerSections(lineId, List.of(홍대역_강남역_구간_PARAM, 홍대역_분당역_구간_PARAM));
+
+        // then
+        assertResponseCode(response, HttpStatus.BAD_REQUEST);
+        assertThat(lookUpStationIds(lineId)).containsExactly(분당역_ID, 홍대역_ID);
     }
 
-    private List<Long> lookUpStationIds(Long lindId) {
-        return lookUpLine(lindId).jsonPath()
-                .getList("stations.id", Long.class);
+    /**
+     * Given: 특정 노선이 등록되어 있고,
+     * When: 비어 있는 구간이나 하행역이 없는 구간이 포함된 여러 구간을 한 번에 등록하면,
+     * Then: 오류를 응답하고 어떤 구간도 등록되지 않는다.
+     */
+    @DisplayName("여러 구간 중 비어 있거나 역이 빠진 구간이 있으면 오류가 발생한다.")
+    @Test
+    void registerSectionsBatchWithMissingStationExceptionTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+
+        // when
+        ExtractableResponse<Response> nullSection = registerSections(lineId, Arrays.asList(홍대역_강남역_구간_PARAM, null));
+        ExtractableResponse<Response> missingDownStation = registerSections(lineId, List.of(
+                홍대역_강남역_구간_PARAM,
+                Map.of("upStationId", 강남역_ID, "distance", DEFAULT_DISTANCE)));
+
+        // then
+        assertResponseCode(nullSection, HttpStatus.BAD_REQUEST);
+        assertResponseCode(missingDownStation, HttpStatus.BAD_REQUEST);
+        assertThat(lookUpStationIds(lineId)).containsExactly(분당역_ID, 홍대역_ID);
     }
 
-    private List<String> findNames(ExtractableResponse<Response> response) {
-        return response.jsonPath()
-                .getList("name", String.class);
+    /**
+     * Given: 특정 노선이 등록되어 있고,
+     * When: 빈 구간 목록을 한 번에 등록하면,
+     * Then: 오류를 응답하고 노선 버전도 바뀌지 않는다.
+     */
+    @DisplayName("빈 구간 목록을 등록하면 오류가 발생한다.")
+    @Test
+    void registerEmptySectionsBatchExceptionTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        String eTag = lookUpLine(lineId).header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> response = registerSections(lineId, List.of());
+
+        // then
+        assertResponseCode(response, HttpStatus.BAD_REQUEST);
+        assertResponseCode(lookUpLine(lineId, eTag), HttpStatus.NOT_MODIFIED);
     }
 
-    private static String findName(ExtractableResponse<Response> response) {
-        return response.jsonPath().getString("name");
+    /**
+     * Given: 2개의 노선이 등록되어 있고,
+     * When: 노선 목록을 1개씩 조회하면,
+     * Then: 다음 페이지 Link 를 따라 모든 노선을 ID 순서로 조회할 수 있다.
+     */
+    @DisplayName("노선 목록을 키셋 페이지 단위로 조회한다.")
+    @Test
+    void lookUpLinesByPageTest() {
+        // given
+        createLine(신분당선_PARAM);
+        registerSection(findId(createLine(분당선_PARAM)), Map.of(
+                "upStationId", 강남역_ID,
+                "downStationId", 성수역_ID,
+                "distance", DEFAULT_DISTANCE));
+
+        // when
+        ExtractableResponse<Response> firstPage = lookUpLines("/lines?limit=1");
+        String link = firstPage.header(HttpHeaders.LINK);
+        ExtractableResponse<Response> lastPage = lookUpLines(link.substring(1, link.indexOf('>')));
+
+        // then
+        assertThat(findNames(firstPage)).containsExactly(신분당선);
+        assertThat(findNames(lastPage)).containsExactly(분당선);
+        assertThat(lastPage.jsonPath().getList("[0].stations.id", Long.class)).containsExactly(분당역_ID, 강남역_ID, 성수역_ID);
+        assertThat(lastPage.header(HttpHeaders.LINK)).isNull();
     }
 
-    private static long findId(ExtractableResponse<Response> createdLineResponse) {
-        return createdLineResponse.jsonPath()
-                .getLong("id");
+    /**
+     * Given: 2개의 노선이 등록되어 있고,
+     * When: 노선 목록을 스트리밍으로 조회하면,
+     * Then: 한 줄에 노선 하나씩 NDJSON 으로 응답한다.
+     */
+    @DisplayName("노선 목록을 NDJSON 으로 스트리밍한다.")
+    @Test
+    void streamLinesTest() {
+        // given
+        createLine(신분당선_PARAM);
+        createLine(분당선_PARAM);
+
+        // when
+        ExtractableResponse<Response> response = lookUpLines("/lines/stream");
+
+        // then
+        assertResponseCode(response, HttpStatus.OK);
+        String[] lines = response.asString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains(신분당선);
+        assertThat(lines[1]).contains(분당선);
     }
 }
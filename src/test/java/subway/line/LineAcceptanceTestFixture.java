@@ -1,9 +1,13 @@
 package subway.line;
 
 import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class LineAcceptanceTestFixture {
@@ -79,4 +83,117 @@ public class LineAcceptanceTestFixture {
                 .extract()
                 .jsonPath().getLong("id");
     }
+
+    static ExtractableResponse<Response> createLine(Map<String, Object> params) {
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> createLineWithStations(List<Long> stationIds, List<Integer> distances) {
+        Map<String, Object> params = Map.of(
+                "name", 신분당선,
+                "color", RED,
+                "stationIds", stationIds,
+                "distances", distances
+        );
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/bulk")
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> lookUpLines() {
+        return RestAssured.given().log().all()
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> lookUpLines(String path) {
+        return RestAssured.given().log().all()
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> lookUpLine(Long id) {
+        return RestAssured.given().log().all()
+                .when().get("/lines/" + id)
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> lookUpLine(Long id, String eTag) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/lines/" + id)
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> modifyLine(Long id, Map<String, Object> params) {
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().put("/lines/" + id)
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> deleteLine(Long id) {
+        return RestAssured.given().log().all()
+                .when().delete("/lines/" + id)
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> registerSection(Long id, Map<String, Object> params) {
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post(String.format("/lines/%d/sections", id))
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> registerSections(Long id, List<Map<String, Object>> params) {
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post(String.format("/lines/%d/sections/batch", id))
+                .then().log().all()
+                .extract();
+    }
+
+    static ExtractableResponse<Response> deleteSection(Long id, Long stationId) {
+        return RestAssured.given().log().all()
+                .when().delete(String.format("/lines/%s/sections?stationId=%s", id, stationId))
+                .then().log().all()
+                .extract();
+    }
+
+    static List<Long> lookUpStationIds(Long lindId) {
+        return lookUpLine(lindId).jsonPath()
+                .getList("stations.id", Long.class);
+    }
+
+    static List<String> findNames(ExtractableResponse<Response> response) {
+        return response.jsonPath()
+                .getList("name", String.class);
+    }
+
+    static String findName(ExtractableResponse<Response> response) {
+        return response.jsonPath().getString("name");
+    }
+
+    static long findId(ExtractableResponse<Response> createdLineResponse) {
+        return createdLineResponse.jsonPath()
+                .getLong("id");
+    }
 }
@@ -0,0 +1,89 @@
+package subway.line;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import subway.util.DatabaseCleanup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineAcceptanceTestFixture.*;
+
+@DisplayName("지하철 노선 동시 수정 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class LineConcurrencyTest {
+
+    private static final int CLIENT_COUNT = 8;
+    private static final int MAX_TRIES_PER_CLIENT = 100;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpTablesForLineTest();
+    }
+
+    /**
+     * Given: 노선과, 클라이언트마다 하나씩 붙일 역을 만들고,
+     * When: 여러 클라이언트가 동시에 현재 하행 종점 뒤에 자기 역을 붙이면,
+     * Then: 모든 역이 한 번씩만 이어진 하나의 구간 체인이 된다.
+     */
+    @DisplayName("같은 노선에 동시에 구간을 등록해도 구간 체인이 깨지지 않는다.")
+    @Test
+    void concurrentRegisterSectionsTest() throws Exception {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        List<Long> newStationIds = IntStream.range(0, CLIENT_COUNT)
+                .mapToObj(i -> createStation("동시역" + i))
+                .collect(Collectors.toList());
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENT_COUNT);
+        List<Callable<Integer>> clients = newStationIds.stream()
+                .map(stationId -> (Callable<Integer>) () -> appendToEnd(lineId, stationId))
+                .collect(Collectors.toList());
+        for (Future<Integer> future : executor.invokeAll(clients)) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        List<Long> stationIds = lookUpStationIds(lineId);
+        assertThat(stationIds).hasSize(2 + CLIENT_COUNT);
+        assertThat(stationIds).doesNotHaveDuplicates();
+        assertThat(stationIds.subList(0, 2)).containsExactly(분당역_ID, 홍대역_ID);
+        assertThat(stationIds).containsAll(newStationIds);
+    }
+
+    /**
+     * 하행 종점을 읽고 그 뒤에 역을 붙인다. 그 사이 다른 요청이 종점을 바꿔 400 이나 409 를 받으면 종점을 다시 읽는다.
+     */
+    private static int appendToEnd(Long lineId, Long stationId) {
+        for (int tries = 1; tries <= MAX_TRIES_PER_CLIENT; tries++) {
+            List<Long> stationIds = lookUpStationIds(lineId);
+            ExtractableResponse<Response> response = registerSection(lineId, Map.of(
+                    "upStationId", stationIds.get(stationIds.size() - 1),
+                    "downStationId", stationId,
+                    "distance", DEFAULT_DISTANCE));
+            if (response.statusCode() == HttpStatus.CREATED.value()) {
+                return tries;
+            }
+            assertThat(response.statusCode()).isIn(HttpStatus.BAD_REQUEST.value(), HttpStatus.CONFLICT.value());
+        }
+        throw new AssertionError("구간을 등록하지 못했습니다: " + stationId);
+    }
+}
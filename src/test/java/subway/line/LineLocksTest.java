@@ -0,0 +1,65 @@
+package subway.line;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선 수정 락 관련 기능")
+class LineLocksTest {
+
+    private static final long 노선1 = 1L;
+    private static final long 노선2 = 2L;
+
+    /**
+     * Given: 한 노선의 락을 잡고 있는 동안,
+     * When: 다른 스트라이프의 노선을 수정하면 바로 끝나고, 같은 노선을 수정하면,
+     * Then: 앞선 수정이 끝날 때까지 기다린다.
+     */
+    @DisplayName("같은 노선의 수정은 기다리고 다른 노선의 수정은 동시에 진행된다.")
+    @Test
+    void sameLineWaitsOtherLineProceedsTest() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LineLocks lineLocks = new LineLocks(2, meterRegistry);
+        assertThat(lineLocks.stripeOf(노선1)).isNotEqualTo(lineLocks.stripeOf(노선2));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> holder = executor.submit(() -> lineLocks.withLock(노선1, () -> {
+            holding.countDown();
+            return await(release);
+        }));
+        holding.await();
+
+        // when
+        Future<Boolean> otherLine = executor.submit(() -> lineLocks.withLock(노선2, () -> true));
+        Future<Boolean> sameLine = executor.submit(() -> lineLocks.withLock(노선1, () -> true));
+
+        // then
+        assertThat(otherLine.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sameLine.isDone()).isFalse();
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sameLine.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("subway.line.lock.wait").timer().count()).isEqualTo(3);
+        executor.shutdown();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package subway.line;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import subway.handler.GlobalExceptionHandler;
+import subway.line.exception.ConcurrentLineModificationException;
+import subway.station.StationRepository;
+import subway.topology.TopologyReadModel;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static subway.line.LineRequestFixture.lineRequest;
+import static subway.line.SectionsTest.createLine;
+
+/**
+ * 저장소가 버전 충돌을 던지도록 두고, 노선 수정이 max-attempts 번까지만 다시 시도한 뒤 409 로 끝나는지 확인한다.
+ * 노선 락은 한 프로세스 안의 수정을 줄 세우므로, 충돌은 다른 인스턴스가 먼저 커밋한 경우에만 생긴다.
+ */
+@DisplayName("지하철 노선 수정 재시도 관련 기능")
+class LineModificationRetryTest {
+
+    private static final long 노선_ID = 1L;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private LineRepository lineRepository;
+    private LineService lineService;
+
+    @BeforeEach
+    void setUp() {
+        lineRepository = mock(LineRepository.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lineService = new LineService(lineRepository, mock(StationRepository.class), mock(LineResponseCache.class),
+                mock(ApplicationEventPublisher.class), meterRegistry, new LineLocks(4, meterRegistry),
+                mock(TopologyReadModel.class), mock(PlatformTransactionManager.class), MAX_ATTEMPTS, 2000);
+        when(lineRepository.findWithSectionsById(노선_ID)).thenAnswer(invocation -> Optional.of(createLine(1L, 2L)));
+    }
+
+    /**
+     * Given: 노선을 저장할 때마다 버전 충돌이 나면,
+     * When: 노선을 수정하면,
+     * Then: max-attempts 번 시도한 뒤 포기하고 409 로 응답한다.
+     */
+    @DisplayName("버전 충돌이 계속되면 정해진 횟수만 다시 시도하고 409 로 응답한다.")
+    @Test
+    void giveUpAfterMaxAttemptsTest() {
+        // given
+        when(lineRepository.save(any(Line.class))).thenThrow(new OptimisticLockingFailureException("충돌"));
+
+        // when
+        ConcurrentLineModificationException exception = catchThrowableOfType(
+                () -> lineService.modifyLine(노선_ID, lineRequest("신신분당선", "bg-blue-600", null, null)),
+                ConcurrentLineModificationException.class);
+        ResponseEntity<String> response = new GlobalExceptionHandler().handleConflictException(exception);
+
+        // then
+        verify(lineRepository, times(MAX_ATTEMPTS)).save(any(Line.class));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isEqualTo(exception.getMessage());
+    }
+
+    /**
+     * Given: 첫 저장에서만 버전 충돌이 나면,
+     * When: 노선을 수정하면,
+     * Then: 노선을 다시 읽어 한 번 더 시도하고 수정에 성공한다.
+     */
+    @DisplayName("버전 충돌 뒤 다시 시도해 성공하면 수정된 노선을 응답한다.")
+    @Test
+    void succeedOnRetryTest() {
+        // given
+        when(lineRepository.save(any(Line.class)))
+                .thenThrow(new OptimisticLockingFailureException("충돌"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        LineResponse response = lineService.modifyLine(노선_ID, lineRequest("신신분당선", "bg-blue-600", null, null));
+
+        // then
+        verify(lineRepository, times(2)).findWithSectionsById(노선_ID);
+        verify(lineRepository, times(2)).save(any(Line.class));
+        assertThat(response.getName()).isEqualTo("신신분당선");
+    }
+}
@@ -0,0 +1,95 @@
+package subway.line;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import subway.util.DatabaseCleanup;
+import subway.util.QueryCounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineAcceptanceTestFixture.*;
+
+/**
+ * 읽기 모델과 응답 캐시를 끄고 저장소(재귀 CTE) 경로로 조회한 쿼리 수를 센다.
+ * 설정이 다른 컨텍스트를 띄우므로 공유 컨텍스트의 고정 포트와 겹치지 않게 임의 포트를 쓰고, 끝나면 RestAssured 포트를 되돌린다.
+ */
+@DisplayName("지하철 노선 조회 쿼리 수 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "subway.read-model.enabled=false",
+        "subway.line.cache.max-size=0",
+        "subway.web.json-cache.enabled=false"
+})
+public class LineQueryCountTest {
+
+    private static final long MAX_QUERY_COUNT_PER_LOOK_UP = 2;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.port = port;
+        databaseCleanup.cleanUpTablesForLineTest();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RestAssured.port = RestAssured.DEFAULT_PORT;
+    }
+
+    /**
+     * Given: 구간이 1개인 노선을 조회한 쿼리 수를 세고,
+     * When: 노선에 구간을 추가한 뒤 다시 조회하면,
+     * Then: 조회 쿼리 수는 역의 개수와 관계없이 같다.
+     */
+    @DisplayName("노선 조회 쿼리 수는 역의 개수에 비례해 늘어나지 않는다.")
+    @Test
+    void lookUpLineQueryCountTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        long oneSectionQueryCount = queryCounter.count(() -> lookUpLine(lineId));
+
+        // when
+        registerSection(lineId, 홍대역_강남역_구간_PARAM);
+        registerSection(lineId, 강남역_성수역_구간_PARAM);
+        long threeSectionsQueryCount = queryCounter.count(() -> lookUpLine(lineId));
+
+        // then
+        assertThat(threeSectionsQueryCount).isEqualTo(oneSectionQueryCount);
+        assertThat(threeSectionsQueryCount).isPositive();
+        assertThat(threeSectionsQueryCount).isLessThanOrEqualTo(MAX_QUERY_COUNT_PER_LOOK_UP);
+    }
+
+    /**
+     * Given: 노선 1개를 조회한 쿼리 수를 세고,
+     * When: 노선을 추가한 뒤 노선 목록을 다시 조회하면,
+     * Then: 조회 쿼리 수는 노선의 개수와 관계없이 같다.
+     */
+    @DisplayName("노선 목록 조회 쿼리 수는 노선의 개수에 비례해 늘어나지 않는다.")
+    @Test
+    void lookUpLinesQueryCountTest() {
+        // given
+        createLine(신분당선_PARAM);
+        long oneLineQueryCount = queryCounter.count(LineAcceptanceTestFixture::lookUpLines);
+
+        // when
+        createLine(분당선_PARAM);
+        long twoLinesQueryCount = queryCounter.count(LineAcceptanceTestFixture::lookUpLines);
+
+        // then
+        assertThat(twoLinesQueryCount).isEqualTo(oneLineQueryCount);
+        assertThat(twoLinesQueryCount).isPositive();
+        assertThat(twoLinesQueryCount).isLessThanOrEqualTo(MAX_QUERY_COUNT_PER_LOOK_UP);
+    }
+}
@@ -0,0 +1,85 @@
+package subway.line;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.station.StationService;
+import subway.util.DatabaseCleanup;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineRequestFixture.*;
+
+@DisplayName("지하철 노선 저장소 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class LineRepositoryTest {
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpAllTables();
+    }
+
+    /**
+     * Given: 구간이 3개인 노선에서
+     * When: 하행 종점 구간을 지우고 다른 역으로 다시 이어 붙이면,
+     * Then: 재귀 CTE 로 읽은 역 순서가 엔티티로 읽은 역 순서와 같다.
+     */
+    @DisplayName("구간을 지우고 다시 추가해도 재귀 CTE 로 읽은 역 순서는 엔티티 경로와 같다.")
+    @Test
+    void findOrderedStationsAfterDeleteAndReAddTest() {
+        // given
+        Long 강남역 = saveStation("강남역");
+        Long 역삼역 = saveStation("역삼역");
+        Long 선릉역 = saveStation("선릉역");
+        Long 삼성역 = saveStation("삼성역");
+        Long 종합운동장역 = saveStation("종합운동장역");
+        Long lineId = lineService.lineSave(lineRequest("2호선", "bg-green-600", 강남역, 역삼역)).getId();
+        lineService.registerSections(lineId, sectionRequest(역삼역, 선릉역));
+        lineService.registerSections(lineId, sectionRequest(선릉역, 삼성역));
+
+        // when
+        lineService.deleteSection(lineId, 삼성역);
+        lineService.registerSections(lineId, sectionRequest(선릉역, 종합운동장역));
+
+        // then
+        List<Long> orderedStationIds = lineRepository.findOrderedStationsByLineIdIn(List.of(lineId)).stream()
+                .map(LineStationRow::getStationId)
+                .collect(Collectors.toList());
+        assertThat(orderedStationIds)
+                .containsExactly(강남역, 역삼역, 선릉역, 종합운동장역)
+                .isEqualTo(entityStationIds(lineId));
+    }
+
+    private List<Long> entityStationIds(Long lineId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> lineRepository.findWithSectionsById(lineId)
+                .orElseThrow()
+                .getStationIds());
+    }
+
+    private Long saveStation(String name) {
+        return stationService.saveStation(stationRequest(name)).getId();
+    }
+}
@@ -0,0 +1,40 @@
+package subway.line;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import subway.station.StationRequest;
+
+/**
+ * 서비스를 직접 호출하는 테스트에서 쓰는 요청 객체. HTTP 로 역을 만드는 LineAcceptanceTestFixture 와 달리
+ * 클래스를 불러와도 요청을 보내지 않으므로 웹 서버 없이 띄운 컨텍스트에서도 쓸 수 있다.
+ */
+public class LineRequestFixture {
+    static final int LINE_DISTANCE = 10;
+    static final int SECTION_DISTANCE = 5;
+
+    private LineRequestFixture() {
+    }
+
+    public static StationRequest stationRequest(String name) {
+        StationRequest stationRequest = new StationRequest();
+        ReflectionTestUtils.setField(stationRequest, "name", name);
+        return stationRequest;
+    }
+
+    static LineRequest lineRequest(String name, String color, Long upStationId, Long downStationId) {
+        LineRequest lineRequest = new LineRequest();
+        lineRequest.setName(name);
+        lineRequest.setColor(color);
+        lineRequest.setUpStationId(upStationId);
+        lineRequest.setDownStationId(downStationId);
+        lineRequest.setDistance(LINE_DISTANCE);
+        return lineRequest;
+    }
+
+    static SectionRequest sectionRequest(Long upStationId, Long downStationId) {
+        SectionRequest sectionRequest = new SectionRequest();
+        sectionRequest.setUpStationId(upStationId);
+        sectionRequest.setDownStationId(downStationId);
+        sectionRequest.setDistance(SECTION_DISTANCE);
+        return sectionRequest;
+    }
+}
@@ -0,0 +1,116 @@
+package subway.line;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import subway.util.DatabaseCleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineAcceptanceTestFixture.*;
+
+@DisplayName("지하철 노선 응답 캐시 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class LineResponseCacheTest {
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private LineResponseCache lineResponseCache;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpTablesForLineTest();
+    }
+
+    /**
+     * Given: 특정 노선을 한 번 조회하고,
+     * When: 같은 노선을 다시 조회하면,
+     * Then: 캐시된 응답을 돌려준다.
+     */
+    @DisplayName("같은 노선을 다시 조회하면 캐시에서 응답한다.")
+    @Test
+    void cacheHitTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        lookUpLine(lineId);
+        long hitCount = lineResponseCache.getHitCount();
+
+        // when
+        ExtractableResponse<Response> response = lookUpLine(lineId);
+
+        // then
+        assertThat(lineResponseCache.getHitCount()).isEqualTo(hitCount + 1);
+        assertThat(findName(response)).isEqualTo(신분당선);
+    }
+
+    /**
+     * Given: 특정 노선을 조회해 캐시해 두고,
+     * When: 노선을 수정하면,
+     * Then: 다시 조회했을 때 수정된 정보가 반환된다.
+     */
+    @DisplayName("노선을 수정하면 캐시된 응답이 무효화된다.")
+    @Test
+    void modifyLineInvalidatesCacheTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        lookUpLine(lineId);
+        lookUpLines();
+
+        // when
+        modifyLine(lineId, MODIFY_PARAM);
+
+        // then
+        assertThat(findName(lookUpLine(lineId))).isEqualTo(분당선);
+        assertThat(findNames(lookUpLines())).containsExactly(분당선);
+    }
+
+    /**
+     * Given: 특정 노선을 조회해 캐시해 두고,
+     * When: 구간을 등록하고 제거하면,
+     * Then: 매번 다시 조회했을 때 변경된 구간이 반환된다.
+     */
+    @DisplayName("구간을 등록하거나 제거하면 캐시된 응답이 무효화된다.")
+    @Test
+    void sectionChangeInvalidatesCacheTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        lookUpLine(lineId);
+
+        // when
+        registerSection(lineId, 홍대역_강남역_구간_PARAM);
+
+        // then
+        assertThat(lookUpStationIds(lineId)).containsExactly(분당역_ID, 홍대역_ID, 강남역_ID);
+
+        // when
+        deleteSection(lineId, 강남역_ID);
+
+        // then
+        assertThat(lookUpStationIds(lineId)).containsExactly(분당역_ID, 홍대역_ID);
+    }
+
+    /**
+     * Given: 노선 목록을 조회해 캐시해 두고,
+     * When: 노선을 삭제하면,
+     * Then: 노선 목록에서 삭제된 노선이 제외된다.
+     */
+    @DisplayName("노선을 삭제하면 캐시된 노선 목록이 무효화된다.")
+    @Test
+    void deleteLineInvalidatesCacheTest() {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        createLine(분당선_PARAM);
+        lookUpLines();
+
+        // when
+        deleteLine(lineId);
+
+        // then
+        assertThat(findNames(lookUpLines())).containsExactly(분당선);
+    }
+}
@@ -0,0 +1,145 @@
+package subway.line;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.station.Station;
+import subway.station.StationService;
+import subway.util.DatabaseCleanup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineRequestFixture.*;
+
+/**
+ * l2cache 프로필에서 노선을 바꾼 뒤 엔티티 경로로 다시 읽어, 2차 캐시에 남은 노선과 구간 컬렉션이 바뀐 내용을 따라가는지 확인한다.
+ * 바꾸기 전에 한 번 읽어 캐시에 올려 둔다.
+ */
+@DisplayName("지하철 노선 2차 캐시 관련 기능")
+@ActiveProfiles("l2cache")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class LineSecondLevelCacheTest {
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long 강남역;
+    private Long 역삼역;
+    private Long 선릉역;
+    private Long lineId;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpAllTables();
+        강남역 = stationService.saveStation(stationRequest("강남역")).getId();
+        역삼역 = stationService.saveStation(stationRequest("역삼역")).getId();
+        선릉역 = stationService.saveStation(stationRequest("선릉역")).getId();
+        lineId = lineService.lineSave(lineRequest("2호선", "bg-red-600", 강남역, 역삼역)).getId();
+        stationNames();
+    }
+
+    /**
+     * Given: 캐시에 올린 노선에
+     * When: 구간을 추가하면,
+     * Then: 다시 읽은 노선에 추가한 역이 보인다.
+     */
+    @DisplayName("구간을 추가한 뒤 읽은 노선에 추가한 역이 보인다.")
+    @Test
+    void readAfterRegisterSectionsTest() {
+        // when
+        lineService.registerSections(lineId, sectionRequest(역삼역, 선릉역));
+
+        // then
+        assertThat(stationNames()).containsExactly("강남역", "역삼역", "선릉역");
+    }
+
+    /**
+     * Given: 캐시에 올린 노선에 구간을 추가하고 다시 읽은 뒤,
+     * When: 구간을 삭제하면,
+     * Then: 다시 읽은 노선에서 삭제한 역이 빠진다.
+     */
+    @DisplayName("구간을 삭제한 뒤 읽은 노선에서 삭제한 역이 빠진다.")
+    @Test
+    void readAfterDeleteSectionTest() {
+        // given
+        lineService.registerSections(lineId, sectionRequest(역삼역, 선릉역));
+        stationNames();
+
+        // when
+        lineService.deleteSection(lineId, 선릉역);
+
+        // then
+        assertThat(stationNames()).containsExactly("강남역", "역삼역");
+    }
+
+    /**
+     * Given: 캐시에 올린 노선을
+     * When: 수정하면,
+     * Then: 다시 읽은 노선의 이름과 색이 바뀌어 있다.
+     */
+    @DisplayName("노선을 수정한 뒤 읽은 노선에 바뀐 이름과 색이 보인다.")
+    @Test
+    void readAfterModifyLineTest() {
+        // when
+        lineService.modifyLine(lineId, lineRequest("신2호선", "bg-blue-600", 강남역, 역삼역));
+
+        // then
+        Line line = readLine().orElseThrow();
+        assertThat(line.getName()).isEqualTo("신2호선");
+        assertThat(line.getColor()).isEqualTo("bg-blue-600");
+    }
+
+    /**
+     * Given: 캐시에 올린 노선을
+     * When: 삭제하면,
+     * Then: 다시 읽어도 노선이 조회되지 않는다.
+     */
+    @DisplayName("노선을 삭제한 뒤 노선이 조회되지 않는다.")
+    @Test
+    void readAfterDeleteLineTest() {
+        // when
+        lineService.deleteLine(lineId);
+
+        // then
+        assertThat(readLine()).isEmpty();
+    }
+
+    private Optional<Line> readLine() {
+        return readLine(line -> line);
+    }
+
+    private List<String> stationNames() {
+        return readLine(line -> line.getStations()
+                .stream()
+                .map(Station::getName)
+                .collect(Collectors.toList()))
+                .orElseThrow();
+    }
+
+    private <T> Optional<T> readLine(Function<Line, T> reader) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> lineRepository.findById(lineId).map(reader));
+    }
+}
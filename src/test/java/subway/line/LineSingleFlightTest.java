@@ -0,0 +1,126 @@
+package subway.line;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import subway.util.DatabaseCleanup;
+import subway.util.QueryCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineAcceptanceTestFixture.*;
+
+/**
+ * 읽기 모델과 응답 캐시를 끄고 같은 노선을 한꺼번에 조회해, 저장소 조회가 한 번으로 합쳐지는지 쿼리 수로 확인한다.
+ * LineQueryCountTest 와 같은 설정을 써서 컨텍스트를 함께 쓴다.
+ */
+@DisplayName("지하철 노선 동시 조회 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "subway.read-model.enabled=false",
+        "subway.line.cache.max-size=0",
+        "subway.web.json-cache.enabled=false"
+})
+public class LineSingleFlightTest {
+
+    private static final int CALLER_COUNT = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.port = port;
+        databaseCleanup.cleanUpTablesForLineTest();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        queryCounter.release();
+        RestAssured.port = RestAssured.DEFAULT_PORT;
+    }
+
+    /**
+     * Given: 노선 하나를 저장소에서 읽는 쿼리 수를 세고,
+     * When: 첫 조회가 쿼리를 보내기 전에 같은 노선을 동시에 여러 번 조회하면,
+     * Then: 모든 호출이 같은 응답을 받고 쿼리 수는 한 번 읽은 만큼이다.
+     */
+    @DisplayName("같은 노선을 동시에 조회하면 저장소에서 한 번만 읽는다.")
+    @Test
+    void coalesceBurstOfFindLineTest() throws Exception {
+        // given
+        Long lineId = findId(createLine(신분당선_PARAM));
+        long singleLoadQueryCount = queryCounter.count(() -> lineService.findLine(lineId));
+        Counter coalesced = meterRegistry.get("subway.line.single-flight")
+                .tag("name", "line")
+                .tag("result", "coalesced")
+                .counter();
+        double coalescedBefore = coalesced.count();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(CALLER_COUNT);
+        List<Future<LineResponse>> calls = new ArrayList<>();
+        long burstQueryCount = queryCounter.count(() -> {
+            queryCounter.hold();
+            for (int i = 0; i < CALLER_COUNT; i++) {
+                calls.add(executor.submit(() -> lineService.findLine(lineId)));
+            }
+            awaitCount(coalesced, coalescedBefore + CALLER_COUNT - 1);
+            queryCounter.release();
+            calls.forEach(LineSingleFlightTest::await);
+        });
+        executor.shutdown();
+
+        // then
+        assertThat(singleLoadQueryCount).isPositive();
+        assertThat(burstQueryCount).isEqualTo(singleLoadQueryCount);
+        for (Future<LineResponse> call : calls) {
+            assertThat(call.get().getId()).isEqualTo(lineId);
+        }
+    }
+
+    private static void awaitCount(Counter counter, double expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.count() < expected && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(counter.count()).isEqualTo(expected);
+    }
+
+    private static void await(Future<LineResponse> call) {
+        try {
+            call.get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package subway.line;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.SectionsTest.createLine;
+import static subway.line.SectionsTest.station;
+
+/**
+ * 노선 길이에 따른 구간 추가 비용을 잰다. 시간에 의존하므로 기본 test 태스크에서는 제외되며
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("지하철 구간 목록 성능")
+class SectionsBenchmarkTest {
+
+    private static final int[] LINE_LENGTHS = {100, 1_000, 10_000};
+    private static final int MEASURED_INSERTS = 1_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final double MAX_GROWTH_RATIO = 5.0;
+
+    @DisplayName("구간 추가 비용은 노선 길이와 관계없이 일정하다.")
+    @Test
+    void addSectionCostIsFlatTest() {
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            measureNanosPerInsert(LINE_LENGTHS[LINE_LENGTHS.length - 1]);
+        }
+
+        double shortestLineCost = measureNanosPerInsert(LINE_LENGTHS[0]);
+        for (int lineLength : LINE_LENGTHS) {
+            double cost = measureNanosPerInsert(lineLength);
+            System.out.printf("line length %,d: %.1f ns per insert%n", lineLength, cost);
+            assertThat(cost).isLessThan(shortestLineCost * MAX_GROWTH_RATIO);
+        }
+    }
+
+    private double measureNanosPerInsert(int lineLength) {
+        Line line = createLine(1L, 2L);
+        long lastStationId = 2L;
+        for (; lastStationId <= lineLength; lastStationId++) {
+            line.registerSection(station(lastStationId), station(lastStationId + 1), 1);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_INSERTS; i++, lastStationId++) {
+            line.registerSection(station(lastStationId), station(lastStationId + 1), 1);
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_INSERTS;
+    }
+}
@@ -0,0 +1,157 @@
+package subway.line;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import subway.line.exception.AlreadyRegisteredStationException;
+import subway.line.exception.InvalidDistanceException;
+import subway.line.exception.NotDownStationException;
+import subway.line.exception.NotSameNewUpStationAndExistingDownStationException;
+import subway.station.Station;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("지하철 구간 목록 단위 기능")
+class SectionsTest {
+
+    private static final Integer DISTANCE = 10;
+
+    @DisplayName("구간을 추가하면 상행 종점부터 하행 종점까지 순서대로 역 ID 를 반환한다.")
+    @Test
+    void getStationIdsTest() {
+        // given
+        Line line = createLine(1L, 2L);
+
+        // when
+        line.registerSection(station(2L), station(3L), DISTANCE);
+        line.registerSection(station(3L), station(4L), DISTANCE);
+
+        // then
+        assertThat(line.getStationIds()).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("새로운 구간의 상행역이 하행 종점역이 아니면 오류가 발생한다.")
+    @Test
+    void notSameUpStationAndDownStationExceptionTest() {
+        // given
+        Line line = createLine(1L, 2L);
+
+        // when, then
+        assertThatThrownBy(() -> line.registerSection(station(1L), station(3L), DISTANCE))
+                .isInstanceOf(NotSameNewUpStationAndExistingDownStationException.class);
+    }
+
+    @DisplayName("이미 등록된 역을 하행역으로 등록하면 오류가 발생한다.")
+    @Test
+    void alreadyRegisteredStationExceptionTest() {
+        // given
+        Line line = createLine(1L, 2L);
+        line.registerSection(station(2L), station(3L), DISTANCE);
+
+        // when, then
+        assertThatThrownBy(() -> line.registerSection(station(3L), station(1L), DISTANCE))
+                .isInstanceOf(AlreadyRegisteredStationException.class);
+    }
+
+    @DisplayName("하행 종점역을 제거하면 직전 구간이 새로운 마지막 구간이 된다.")
+    @Test
+    void deleteSectionTest() {
+        // given
+        Line line = createLine(1L, 2L);
+        line.registerSection(station(2L), station(3L), DISTANCE);
+        line.registerSection(station(3L), station(4L), DISTANCE);
+
+        // when
+        line.deleteSection(4L);
+        line.deleteSection(3L);
+        line.registerSection(station(2L), station(4L), DISTANCE);
+
+        // then
+        assertThat(line.getStationIds()).containsExactly(1L, 2L, 4L);
+    }
+
+    @DisplayName("하행 종점역이 아닌 역을 제거하면 오류가 발생한다.")
+    @Test
+    void deleteNotDownStationExceptionTest() {
+        // given
+        Line line = createLine(1L, 2L);
+        line.registerSection(station(2L), station(3L), DISTANCE);
+
+        // when, then
+        assertThatThrownBy(() -> line.deleteSection(2L))
+                .isInstanceOf(NotDownStationException.class);
+    }
+
+    @DisplayName("거리가 0 이하인 구간을 등록하면 오류가 발생한다.")
+    @Test
+    void nonPositiveDistanceExceptionTest() {
+        // given
+        Line line = createLine(1L, 2L);
+
+        // when, then
+        assertThatThrownBy(() -> line.registerSection(station(2L), station(3L), 0))
+                .isInstanceOf(InvalidDistanceException.class);
+    }
+
+    @DisplayName("구간을 추가하면 순서 번호가 0 부터 빈틈없이 이어진다.")
+    @Test
+    void ordinalsAfterAddTest() {
+        // given
+        Line line = createLine(1L, 2L);
+
+        // when
+        line.registerSection(station(2L), station(3L), DISTANCE);
+        line.registerSection(station(3L), station(4L), DISTANCE);
+
+        // then
+        assertThat(ordinals(line)).containsExactly(0, 1, 2);
+    }
+
+    @DisplayName("하행 종점역을 제거하고 다시 추가해도 순서 번호가 0 부터 빈틈없이 이어진다.")
+    @Test
+    void ordinalsAfterDeleteAndReAddTest() {
+        // given
+        Line line = createLine(1L, 2L);
+        line.registerSection(station(2L), station(3L), DISTANCE);
+        line.registerSection(station(3L), station(4L), DISTANCE);
+
+        // when
+        line.deleteSection(4L);
+        line.deleteSection(3L);
+        line.registerSection(station(2L), station(4L), DISTANCE);
+        line.registerSection(station(4L), station(3L), DISTANCE);
+
+        // then
+        assertThat(ordinals(line)).containsExactly(0, 1, 2);
+        assertThat(line.getStationIds()).containsExactly(1L, 2L, 4L, 3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Integer> ordinals(Line line) {
+        Sections sections = (Sections) ReflectionTestUtils.getField(line, "sections");
+        List<Section> values = (List<Section>) ReflectionTestUtils.getField(sections, "sections");
+        return values.stream()
+                .map(Section::getOrdinal)
+                .collect(Collectors.toList());
+    }
+
+    static Line createLine(Long upStationId, Long downStationId) {
+        return Line.builder()
+                .name("신분당선")
+                .color("bg-red-600")
+                .upStation(station(upStationId))
+                .downStation(station(downStationId))
+                .distance(DISTANCE)
+                .build();
+    }
+
+    static Station station(Long id) {
+        Station station = new Station("역" + id);
+        ReflectionTestUtils.setField(station, "id", id);
+        return station;
+    }
+}
@@ -0,0 +1,187 @@
+package subway.line;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("동시 조회 합치기 관련 기능")
+class SingleFlightTest {
+
+    private static final long 노선1 = 1L;
+    private static final int FOLLOWER_COUNT = 10;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Given: 한 노선의 조회가 진행 중인 동안,
+     * When: 같은 노선을 동시에 여러 번 조회하면,
+     * Then: 계산은 한 번만 하고 모든 호출이 같은 결과를 받는다.
+     */
+    @DisplayName("진행 중인 조회와 같은 키의 조회는 계산하지 않고 결과를 함께 받는다.")
+    @Test
+    void coalesceConcurrentCallsTest() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("line", TIMEOUT, meterRegistry);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(FOLLOWER_COUNT + 1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute(노선1, () -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "신분당선";
+        }));
+        loading.await();
+
+        // when
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWER_COUNT; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(노선1, () -> {
+                loadCount.incrementAndGet();
+                return "다시 읽은 신분당선";
+            })));
+        }
+        awaitCount(counter(meterRegistry, "coalesced"), FOLLOWER_COUNT);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("신분당선");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("신분당선");
+        }
+        assertThat(loadCount).hasValue(1);
+        assertThat(counter(meterRegistry, "leader").count()).isEqualTo(1);
+        assertThat(counter(meterRegistry, "coalesced").count()).isEqualTo(FOLLOWER_COUNT);
+        executor.shutdown();
+    }
+
+    /**
+     * Given: 한 노선의 조회가 진행 중인 동안 같은 노선을 조회하고,
+     * When: 진행 중인 조회가 실패하면,
+     * Then: 합류한 호출도 같은 예외를 받는다.
+     */
+    @DisplayName("진행 중인 조회가 실패하면 합류한 호출도 같은 예외를 받는다.")
+    @Test
+    void shareFailureTest() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("line", TIMEOUT, meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> leader = executor.submit(() -> singleFlight.execute(노선1, () -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalStateException("조회 실패");
+        }));
+        loading.await();
+        Future<String> follower = executor.submit(() -> singleFlight.execute(노선1, () -> "신분당선"));
+        awaitCount(counter(meterRegistry, "coalesced"), 1);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        executor.shutdown();
+    }
+
+    /**
+     * Given: 한 노선의 조회가 끝난 뒤,
+     * When: 같은 노선을 다시 조회하면,
+     * Then: 결과를 보관하지 않으므로 다시 계산한다.
+     */
+    @DisplayName("끝난 조회의 결과는 보관하지 않는다.")
+    @Test
+    void notRetainCompletedCallTest() {
+        // given
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>("line", TIMEOUT, new SimpleMeterRegistry());
+        AtomicInteger loadCount = new AtomicInteger();
+        singleFlight.execute(노선1, loadCount::incrementAndGet);
+
+        // when
+        Integer result = singleFlight.execute(노선1, loadCount::incrementAndGet);
+
+        // then
+        assertThat(result).isEqualTo(2);
+    }
+
+    /**
+     * Given: 한 노선의 조회가 멈춰 있는 동안,
+     * When: 같은 노선을 조회한 호출이 기다리는 시간을 넘기면,
+     * Then: 멈춘 조회를 더 기다리지 않고 직접 계산한다.
+     */
+    @DisplayName("진행 중인 조회를 기다리다 시간이 초과되면 직접 계산한다.")
+    @Test
+    void loadAfterTimeoutTest() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("line", Duration.ofMillis(50), meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> leader = executor.submit(() -> singleFlight.execute(노선1, () -> {
+            loading.countDown();
+            await(release);
+            return "멈춘 신분당선";
+        }));
+        loading.await();
+
+        // when
+        String result = singleFlight.execute(노선1, () -> "신분당선");
+
+        // then
+        assertThat(result).isEqualTo("신분당선");
+        assertThat(counter(meterRegistry, "timeout").count()).isEqualTo(1);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("멈춘 신분당선");
+        executor.shutdown();
+    }
+
+    private static Counter counter(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("subway.line.single-flight")
+                .tag("result", result)
+                .counter();
+    }
+
+    private static void awaitCount(Counter counter, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(counter.count()).isEqualTo(expected);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package subway.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 클라이언트가 동시에 읽기/쓰기를 섞어 호출하며 엔드포인트별 지연 시간 분포를 기록한다.
+ * 각 클라이언트는 응답을 받은 뒤 바로 다음 요청을 보내는 closed-loop 방식이라, 서버가 밀리는 구간의 대기 시간은
+ * 지연 시간 분포에 반영되지 않는다(coordinated omission). 처리량 비교와 회귀 감지 용도로 쓴다.
+ */
+public class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    enum Endpoint {
+        GET_LINES("GET /lines"),
+        GET_LINE("GET /lines/{id}"),
+        GET_STATIONS("GET /stations"),
+        CREATE_STATION("POST /stations"),
+        MODIFY_LINE("PUT /lines/{id}"),
+        REGISTER_SECTION("POST /lines/{id}/sections"),
+        DELETE_SECTION("DELETE /lines/{id}/sections");
+
+        private final String description;
+
+        Endpoint(String description) {
+            this.description = description;
+        }
+    }
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+
+    private List<Long> lineIds = List.of();
+    private List<Long> lastStationIds = List.of();
+
+    public LoadDriver(int port) {
+        this.baseUrl = "http://localhost:" + port;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(endpoint, new AtomicLong());
+        }
+    }
+
+    /**
+     * 기존 일괄 생성 API 로 합성 노선도를 만든다. 이 요청들은 지연 시간 분포에 넣지 않는다.
+     */
+    public void seed(SyntheticNetwork network) {
+        List<Map<String, String>> stationRequests = network.stationNames().stream()
+                .map(name -> Map.of("name", name))
+                .collect(Collectors.toList());
+        JsonNode stations = send("POST", "/stations/bulk", stationRequests, 201);
+        List<Long> stationIds = new ArrayList<>();
+        stations.forEach(station -> stationIds.add(station.get("id").asLong()));
+
+        List<Long> createdLineIds = new ArrayList<>();
+        List<Long> createdLastStationIds = new ArrayList<>();
+        List<List<Long>> sequences = network.lineStationSequences(stationIds);
+        for (int i = 0; i < sequences.size(); i++) {
+            List<Long> sequence = sequences.get(i);
+            Map<String, Object> lineRequest = Map.of(
+                    "name", "노선" + i,
+                    "color", "bg-color-" + i,
+                    "stationIds", sequence,
+                    "distances", IntStream.range(1, sequence.size())
+                            .mapToObj(ignored -> SyntheticNetwork.DISTANCE)
+                            .collect(Collectors.toList()));
+            createdLineIds.add(send("POST", "/lines/bulk", lineRequest, 201).get("id").asLong());
+            createdLastStationIds.add(sequence.get(sequence.size() - 1));
+        }
+        this.lineIds = List.copyOf(createdLineIds);
+        this.lastStationIds = List.copyOf(createdLastStationIds);
+    }
+
+    /**
+     * clients 개의 클라이언트로 duration 동안 부하를 건다. 같은 노선을 두 클라이언트가 동시에 바꾸지 않도록
+     * 노선 수정과 구간 추가/삭제는 노선 순번을 클라이언트 수로 나눈 나머지로 나눠 맡는다.
+     */
+    public void run(int clients, Duration duration, double writeRatio) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                Client client = new Client(i, clients, writeRatio);
+                futures.add(executor.submit(() -> client.runUntil(deadline)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(error -> error.set(0));
+    }
+
+    public long totalCount() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public void report(PrintStream out, Duration duration) {
+        out.printf("%-30s %9s %9s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf("%-30s %,9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %,7d%n",
+                    endpoint.description,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / (double) duration.toSeconds(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    errors.get(endpoint).get());
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private class Client {
+
+        private final List<Integer> ownedLineIndexes;
+        private final long[] ownedLastStationIds;
+        private final double writeRatio;
+        private final Long scratchStationId;
+
+        Client(int index, int clients, double writeRatio) {
+            this.ownedLineIndexes = IntStream.range(0, lineIds.size())
+                    .filter(lineIndex -> lineIndex % clients == index)
+                    .boxed()
+                    .collect(Collectors.toList());
+            this.ownedLastStationIds = ownedLineIndexes.stream()
+                    .mapToLong(lastStationIds::get)
+                    .toArray();
+            this.writeRatio = writeRatio;
+            this.scratchStationId = send("POST", "/stations", Map.of("name", "임시역" + index), 201)
+                    .get("id").asLong();
+        }
+
+        void runUntil(long deadline) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                if (random.nextDouble() < writeRatio) {
+                    write(random);
+                } else {
+                    read(random);
+                }
+            }
+        }
+
+        private void read(ThreadLocalRandom random) {
+            int pick = random.nextInt(10);
+            if (pick < 2) {
+                call(Endpoint.GET_LINES, "GET", "/lines", null);
+            } else if (pick < 3) {
+                call(Endpoint.GET_STATIONS, "GET", "/stations", null);
+            } else {
+                call(Endpoint.GET_LINE, "GET", "/lines/" + randomLineId(random), null);
+            }
+        }
+
+        private void write(ThreadLocalRandom random) {
+            int pick = random.nextInt(3);
+            if (pick == 0 || ownedLineIndexes.isEmpty()) {
+                call(Endpoint.CREATE_STATION, "POST", "/stations", Map.of("name", "부하역" + random.nextInt(1_000_000)));
+                return;
+            }
+            int ownedIndex = random.nextInt(ownedLineIndexes.size());
+            if (pick == 1) {
+                call(Endpoint.MODIFY_LINE, "PUT", "/lines/" + lineIds.get(ownedLineIndexes.get(ownedIndex)),
+                        Map.of("name", "노선" + random.nextInt(1_000_000), "color", "bg-color-" + random.nextInt(1_000)));
+            } else {
+                appendAndRemoveSection(ownedIndex);
+            }
+        }
+
+        /**
+         * 노선 끝에 임시역을 붙였다가 바로 떼어 노선도를 원래대로 돌려놓는다.
+         */
+        private void appendAndRemoveSection(int ownedIndex) {
+            long lineId = lineIds.get(ownedLineIndexes.get(ownedIndex));
+            Map<String, Object> section = Map.of(
+                    "upStationId", ownedLastStationIds[ownedIndex],
+                    "downStationId", scratchStationId,
+                    "distance", SyntheticNetwork.DISTANCE);
+            if (call(Endpoint.REGISTER_SECTION, "POST", "/lines/" + lineId + "/sections", section)) {
+                call(Endpoint.DELETE_SECTION, "DELETE", "/lines/" + lineId + "/sections?stationId=" + scratchStationId, null);
+            }
+        }
+
+        private long randomLineId(ThreadLocalRandom random) {
+            return lineIds.get(random.nextInt(lineIds.size()));
+        }
+    }
+
+    private boolean call(Endpoint endpoint, String method, String path, Object body) {
+        HttpRequest request = request(method, path, body);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            histograms.get(endpoint).recordValue(Math.min(
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), HIGHEST_TRACKABLE_MICROS));
+            if (response.statusCode() >= 400) {
+                errors.get(endpoint).incrementAndGet();
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            errors.get(endpoint).incrementAndGet();
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private JsonNode send(String method, String path, Object body, int expectedStatus) {
+        try {
+            HttpResponse<String> response = httpClient.send(request(method, path, body), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != expectedStatus) {
+                throw new IllegalStateException(method + " " + path + " -> " + response.statusCode() + " " + response.body());
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest request(String method, String path, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build();
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
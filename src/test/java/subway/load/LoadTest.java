@@ -0,0 +1,63 @@
+package subway.load;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import subway.util.DatabaseCleanup;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 노선도를 만든 뒤 노선/역 API 에 동시 부하를 걸고 엔드포인트별 처리량과 지연 시간 분포를 출력한다.
+ * ./gradlew loadTest -Dload.clients=64 -Dload.stations=5000 처럼 시스템 프로퍼티로 규모를 바꿔 실행한다.
+ */
+@Tag("load")
+@DisplayName("지하철 노선/역 API 부하 테스트")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class LoadTest {
+
+    private static final int STATION_COUNT = Integer.getInteger("load.stations", 1_000);
+    private static final int LINE_COUNT = Integer.getInteger("load.lines", 50);
+    private static final int SECTIONS_PER_LINE = Integer.getInteger("load.sections-per-line", 20);
+    private static final long SEED = Long.getLong("load.seed", 42L);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 32);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5L));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30L));
+    private static final double WRITE_RATIO = Double.parseDouble(System.getProperty("load.write-ratio", "0.1"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpAllTables();
+    }
+
+    @DisplayName("읽기/쓰기가 섞인 동시 요청을 처리한다.")
+    @Test
+    void mixedWorkloadTest() throws InterruptedException {
+        SyntheticNetwork network = new SyntheticNetwork(STATION_COUNT, LINE_COUNT, SECTIONS_PER_LINE, SEED);
+        LoadDriver driver = new LoadDriver(port);
+        driver.seed(network);
+
+        driver.run(CLIENTS, WARMUP, WRITE_RATIO);
+        driver.reset();
+        driver.run(CLIENTS, DURATION, WRITE_RATIO);
+
+        System.out.printf("%s clients=%d duration=%ds writeRatio=%.2f%n",
+                network, CLIENTS, DURATION.toSeconds(), WRITE_RATIO);
+        driver.report(System.out, DURATION);
+
+        assertThat(driver.totalCount()).isPositive();
+        assertThat(driver.totalErrors()).isZero();
+    }
+}
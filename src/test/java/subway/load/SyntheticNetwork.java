@@ -0,0 +1,70 @@
+package subway.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트용 합성 노선도. 같은 seed 로 만들면 항상 같은 노선도가 나온다.
+ * 각 노선은 전체 역 중 sectionsPerLine + 1 개를 골라 잇기 때문에 노선끼리 역을 공유(환승)할 수 있다.
+ */
+public class SyntheticNetwork {
+
+    static final int DISTANCE = 10;
+
+    private final int stationCount;
+    private final int lineCount;
+    private final int sectionsPerLine;
+    private final long seed;
+
+    public SyntheticNetwork(int stationCount, int lineCount, int sectionsPerLine, long seed) {
+        if (sectionsPerLine < 1 || stationCount < sectionsPerLine + 1) {
+            throw new IllegalArgumentException("노선당 구간 수는 1 이상, 역 수는 노선당 구간 수보다 커야 합니다.");
+        }
+        this.stationCount = stationCount;
+        this.lineCount = lineCount;
+        this.sectionsPerLine = sectionsPerLine;
+        this.seed = seed;
+    }
+
+    public List<String> stationNames() {
+        return IntStream.range(0, stationCount)
+                .mapToObj(i -> "역" + i)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 노선별 역 순서를 stationIds 의 원소로 돌려준다.
+     */
+    public List<List<Long>> lineStationSequences(List<Long> stationIds) {
+        Random random = new Random(seed);
+        List<Long> pool = new ArrayList<>(stationIds);
+        List<List<Long>> sequences = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            Collections.shuffle(pool, random);
+            sequences.add(List.copyOf(pool.subList(0, sectionsPerLine + 1)));
+        }
+        return sequences;
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getSectionsPerLine() {
+        return sectionsPerLine;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("stations=%,d lines=%,d sectionsPerLine=%,d seed=%d",
+                stationCount, lineCount, sectionsPerLine, seed);
+    }
+}
@@ -0,0 +1,41 @@
+package subway.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("표본 본문 수집 필터 단위 기능")
+class SampledTeeFilterTest {
+
+    @DisplayName("표본 비율이 0 이면 요청을 표본으로 표시하지 않고 그대로 넘긴다.")
+    @Test
+    void skipWhenRateIsZeroTest() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/lines");
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        new SampledTeeFilter(0).doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // then
+        assertThat(request.getAttribute(SampledTeeFilter.SAMPLED_ATTRIBUTE)).isNull();
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+
+    @DisplayName("표본 비율이 1 이면 모든 요청을 표본으로 표시한다.")
+    @Test
+    void sampleWhenRateIsOneTest() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/lines");
+
+        // when
+        new SampledTeeFilter(1).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(request.getAttribute(SampledTeeFilter.SAMPLED_ATTRIBUTE)).isEqualTo(Boolean.TRUE);
+    }
+}
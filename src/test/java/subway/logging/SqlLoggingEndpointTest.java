@@ -0,0 +1,99 @@
+package subway.logging;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰을 설정한 컨텍스트를 따로 띄우므로 공유 컨텍스트의 고정 포트와 겹치지 않게 임의 포트를 쓴다.
+ */
+@DisplayName("SQL 로그 전환 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "subway.logging.sql-toggle.token=test-token"
+})
+public class SqlLoggingEndpointTest {
+
+    private static final String TOKEN = "test-token";
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.port = port;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        toggle(false, TOKEN);
+        RestAssured.port = RestAssured.DEFAULT_PORT;
+    }
+
+    /**
+     * When: 설정한 토큰으로 SQL 로그를 켜면,
+     * Then: 재시작 없이 SQL 로그가 켜지고, 다시 끄면 설정 파일의 수준으로 돌아간다.
+     */
+    @DisplayName("토큰이 맞으면 실행 중에 SQL 로그를 켜고 끈다.")
+    @Test
+    void toggleSqlLoggingTest() {
+        // when
+        ExtractableResponse<Response> enabled = toggle(true, TOKEN);
+
+        // then
+        assertThat(enabled.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(isEnabled()).isTrue();
+
+        // when
+        toggle(false, TOKEN);
+
+        // then
+        assertThat(isEnabled()).isFalse();
+    }
+
+    /**
+     * When: 토큰 없이 또는 다른 토큰으로 SQL 로그를 켜면,
+     * Then: 거절하고 SQL 로그는 꺼진 채로 둔다.
+     */
+    @DisplayName("토큰이 없거나 다르면 SQL 로그를 바꾸지 않는다.")
+    @Test
+    void rejectWithoutTokenTest() {
+        // when
+        ExtractableResponse<Response> withoutToken = RestAssured.given()
+                .body(Map.of("enabled", true))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/actuator/sqllogging")
+                .then().extract();
+        ExtractableResponse<Response> wrongToken = toggle(true, "wrong-token");
+
+        // then
+        assertThat(withoutToken.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(wrongToken.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(isEnabled()).isFalse();
+    }
+
+    private static ExtractableResponse<Response> toggle(boolean enabled, String token) {
+        return RestAssured.given()
+                .body(Map.of("enabled", enabled, "token", token))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/actuator/sqllogging")
+                .then().extract();
+    }
+
+    private static boolean isEnabled() {
+        return RestAssured.when().get("/actuator/sqllogging")
+                .then().statusCode(HttpStatus.OK.value())
+                .extract().jsonPath().getBoolean("enabled");
+    }
+}
@@ -0,0 +1,58 @@
+package subway.metrics;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.util.DatabaseCleanup;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("운영 지표 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MetricsAcceptanceTest {
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpAllTables();
+    }
+
+    /**
+     * Given: 지하철역을 생성하고 목록을 조회한 뒤,
+     * When: 지표 수집 엔드포인트를 조회하면,
+     * Then: 서비스 메서드별 타이머와 요청당 SQL 문 수 분포가 노출된다.
+     */
+    @DisplayName("서비스 타이머와 요청별 SQL 문 수를 Prometheus 형식으로 노출한다.")
+    @Test
+    void scrapePrometheusTest() {
+        // given
+        RestAssured.given()
+                .body(Map.of("name", "강남역"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations")
+                .then().statusCode(HttpStatus.CREATED.value());
+        RestAssured.when().get("/stations")
+                .then().statusCode(HttpStatus.OK.value());
+
+        // when
+        String scrape = RestAssured.when().get("/actuator/prometheus")
+                .then().statusCode(HttpStatus.OK.value())
+                .extract().asString();
+
+        // then
+        assertThat(scrape).contains(
+                "subway_station_service_seconds_count{class=\"subway.station.StationService\"",
+                "method=\"saveStation\"",
+                "subway_http_jdbc_statements_count",
+                "subway_line_cache_hits_total");
+    }
+}
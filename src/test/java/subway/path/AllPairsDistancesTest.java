@@ -0,0 +1,78 @@
+package subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("모든 역 쌍 최단 거리 행렬 단위 기능")
+class AllPairsDistancesTest {
+
+    private static final int STATION_COUNT = 60;
+    private static final int LINE_COUNT = 6;
+    private static final int STATIONS_PER_LINE = 12;
+
+    @DisplayName("행렬로 조회한 최단 경로는 다익스트라로 조회한 결과와 거리가 같고 유효한 경로다.")
+    @Test
+    void sameAsDijkstraTest() {
+        // given
+        PathGraph pathGraph = new PathGraph();
+        List<SectionEdge> edges = createRandomNetwork(new Random(7));
+        pathGraph.reload(edges);
+
+        // when
+        AllPairsDistances distances = AllPairsDistances.compute(pathGraph.snapshot(), ForkJoinPool.commonPool());
+
+        // then
+        for (long source = 1; source <= STATION_COUNT; source++) {
+            for (long target = 1; target <= STATION_COUNT; target++) {
+                Optional<ShortestPath> expected = pathGraph.findShortestPath(source, target);
+                Optional<ShortestPath> actual = distances.findShortestPath(source, target);
+
+                assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+                if (actual.isPresent()) {
+                    assertThat(actual.get().getDistance()).isEqualTo(expected.get().getDistance());
+                    assertThat(pathLength(actual.get().getStationIds(), edges)).isEqualTo(actual.get().getDistance());
+                }
+            }
+        }
+    }
+
+    private static List<SectionEdge> createRandomNetwork(Random random) {
+        List<SectionEdge> edges = new ArrayList<>();
+        for (long lineId = 1; lineId <= LINE_COUNT; lineId++) {
+            long upStationId = 1 + random.nextInt(STATION_COUNT);
+            for (int i = 0; i < STATIONS_PER_LINE; i++) {
+                long downStationId = 1 + random.nextInt(STATION_COUNT);
+                if (downStationId != upStationId) {
+                    edges.add(new SectionEdge(lineId, upStationId, downStationId, 1 + random.nextInt(20)));
+                    upStationId = downStationId;
+                }
+            }
+        }
+        return edges;
+    }
+
+    private static int pathLength(List<Long> stationIds, List<SectionEdge> edges) {
+        int length = 0;
+        for (int i = 0; i + 1 < stationIds.size(); i++) {
+            length += shortestEdge(stationIds.get(i), stationIds.get(i + 1), edges);
+        }
+        return length;
+    }
+
+    private static int shortestEdge(Long from, Long to, List<SectionEdge> edges) {
+        return edges.stream()
+                .filter(edge -> (edge.getUpStationId().equals(from) && edge.getDownStationId().equals(to))
+                        || (edge.getUpStationId().equals(to) && edge.getDownStationId().equals(from)))
+                .mapToInt(SectionEdge::getDistance)
+                .min()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,206 @@
+package subway.path;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.util.DatabaseCleanup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.util.AssertUtil.assertResponseCode;
+
+@DisplayName("지하철 경로 조회 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class PathAcceptanceTest {
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 남부터미널역;
+    private Long 이호선;
+
+    /**
+     * 교대역 --- 10 --- 강남역
+     *   |                 |
+     *   2                10
+     *   |                 |
+     * 남부터미널역 -- 3 -- 양재역
+     */
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpTablesForLineTest();
+
+        교대역 = createStation("교대역");
+        강남역 = createStation("강남역");
+        양재역 = createStation("양재역");
+        남부터미널역 = createStation("남부터미널역");
+
+        이호선 = createLine("2호선", 교대역, 강남역, 10);
+        Long 신분당선 = createLine("신분당선", 강남역, 양재역, 10);
+        Long 삼호선 = createLine("3호선", 교대역, 남부터미널역, 2);
+        registerSection(삼호선, 남부터미널역, 양재역, 3);
+    }
+
+    /**
+     * When: 출발역과 도착역으로 경로를 조회하면,
+     * Then: 최단 거리 경로의 역 목록과 거리를 응답한다.
+     */
+    @DisplayName("두 역 사이의 최단 경로를 조회한다.")
+    @Test
+    void findPathTest() {
+        // when
+        ExtractableResponse<Response> response = findPath(강남역, 남부터미널역);
+
+        // then
+        assertResponseCode(response, HttpStatus.OK);
+        assertThat(findStationIds(response)).containsExactly(강남역, 교대역, 남부터미널역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(12);
+    }
+
+    /**
+     * Given: 노선에 더 짧은 경로가 되는 구간을 등록하고,
+     * When: 경로를 조회하면,
+     * Then: 등록한 구간을 지나는 경로를 응답한다.
+     */
+    @DisplayName("구간 등록 후 경로를 조회하면 등록한 구간이 반영된다.")
+    @Test
+    void findPathAfterRegisterSectionTest() {
+        // given
+        Long 역삼역 = createStation("역삼역");
+        registerSection(이호선, 강남역, 역삼역, 1);
+
+        // when
+        ExtractableResponse<Response> response = findPath(역삼역, 교대역);
+
+        // then
+        assertResponseCode(response, HttpStatus.OK);
+        assertThat(findStationIds(response)).containsExactly(역삼역, 강남역, 교대역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(11);
+    }
+
+    /**
+     * Given: 노선의 구간을 제거하고,
+     * When: 제거한 역으로 경로를 조회하면,
+     * Then: 오류를 응답한다.
+     */
+    @DisplayName("구간 제거 후 연결되지 않은 역으로 경로를 조회하면 오류가 발생한다.")
+    @Test
+    void findPathAfterDeleteSectionTest() {
+        // given
+        Long 역삼역 = createStation("역삼역");
+        registerSection(이호선, 강남역, 역삼역, 1);
+        deleteSection(이호선, 역삼역);
+
+        // when
+        ExtractableResponse<Response> response = findPath(역삼역, 교대역);
+
+        // then
+        assertResponseCode(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * When: 출발역과 도착역이 같은 경로를 조회하면,
+     * Then: 오류를 응답한다.
+     */
+    @DisplayName("출발역과 도착역이 같으면 오류가 발생한다.")
+    @Test
+    void sameSourceAndTargetExceptionTest() {
+        // when
+        ExtractableResponse<Response> response = findPath(강남역, 강남역);
+
+        // then
+        assertResponseCode(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * When: 존재하지 않는 역으로 경로를 조회하면,
+     * Then: 오류를 응답한다.
+     */
+    @DisplayName("존재하지 않는 역으로 경로를 조회하면 오류가 발생한다.")
+    @Test
+    void notExistStationExceptionTest() {
+        // when
+        ExtractableResponse<Response> response = findPath(강남역, -1L);
+
+        // then
+        assertResponseCode(response, HttpStatus.NOT_FOUND);
+    }
+
+    private static ExtractableResponse<Response> findPath(Long source, Long target) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths")
+                .then().log().all()
+                .extract();
+    }
+
+    private static List<Long> findStationIds(ExtractableResponse<Response> response) {
+        return response.jsonPath()
+                .getList("stations.id", Long.class);
+    }
+
+    private static Long createStation(String name) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", name);
+
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations")
+                .then().log().all()
+                .extract()
+                .jsonPath().getLong("id");
+    }
+
+    private static Long createLine(String name, Long upStationId, Long downStationId, Integer distance) {
+        Map<String, Object> params = Map.of(
+                "name", name,
+                "color", "bg-red-600",
+                "upStationId", upStationId,
+                "downStationId", downStationId,
+                "distance", distance
+        );
+
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines")
+                .then().log().all()
+                .extract()
+                .jsonPath().getLong("id");
+    }
+
+    private static void registerSection(Long lineId, Long upStationId, Long downStationId, Integer distance) {
+        Map<String, Object> params = Map.of(
+                "upStationId", upStationId,
+                "downStationId", downStationId,
+                "distance", distance
+        );
+
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post(String.format("/lines/%d/sections", lineId))
+                .then().log().all();
+    }
+
+    private static void deleteSection(Long lineId, Long stationId) {
+        RestAssured.given().log().all()
+                .when().delete(String.format("/lines/%d/sections?stationId=%d", lineId, stationId))
+                .then().log().all();
+    }
+}
@@ -0,0 +1,62 @@
+package subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("경로 그래프 단위 기능")
+class PathGraphTest {
+
+    private static final long 노선1 = 1L;
+    private static final long 노선2 = 2L;
+
+    /**
+     * Given: 두 노선의 간선을 넣은 뒤,
+     * When: 한 노선의 간선을 줄여 교체하면,
+     * Then: 간선이 남지 않은 역은 정점에서 빠지고 남은 역 사이의 경로는 그대로 찾는다.
+     */
+    @DisplayName("노선을 교체해 간선이 없어진 역은 정점에서 지운다.")
+    @Test
+    void removeIsolatedVerticesTest() {
+        // given
+        PathGraph pathGraph = new PathGraph();
+        pathGraph.reload(List.of(
+                new SectionEdge(노선1, 1L, 2L, 10),
+                new SectionEdge(노선1, 2L, 3L, 10),
+                new SectionEdge(노선2, 3L, 4L, 5)));
+
+        // when
+        pathGraph.replaceLine(노선1, List.of(new SectionEdge(노선1, 2L, 3L, 10)));
+
+        // then
+        assertThat(pathGraph.snapshot().vertexCount()).isEqualTo(3);
+        assertThat(pathGraph.findShortestPath(1L, 3L)).isEmpty();
+        assertThat(pathGraph.findShortestPath(2L, 4L).get().getStationIds()).containsExactly(2L, 3L, 4L);
+        assertThat(pathGraph.findShortestPath(2L, 4L).get().getDistance()).isEqualTo(15);
+    }
+
+    /**
+     * Given: 거리가 0 인 구간이 섞인 간선 목록으로,
+     * When: 그래프를 만들면,
+     * Then: 거리가 0 인 구간은 간선으로 넣지 않는다.
+     */
+    @DisplayName("거리가 0 이하인 구간은 간선으로 넣지 않는다.")
+    @Test
+    void skipNonPositiveDistanceTest() {
+        // given
+        List<SectionEdge> edges = List.of(
+                new SectionEdge(노선1, 1L, 2L, 10),
+                new SectionEdge(노선1, 2L, 3L, 0));
+
+        // when
+        PathGraph pathGraph = new PathGraph();
+        pathGraph.reload(edges);
+
+        // then
+        assertThat(pathGraph.findShortestPath(1L, 3L)).isEmpty();
+        assertThat(pathGraph.snapshot().vertexCount()).isEqualTo(2);
+    }
+}
@@ -9,14 +9,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import subway.util.DatabaseCleanup;
+import subway.web.KeysetPages;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static subway.util.AssertUtil.assertResponseCode;
@@ -27,6 +31,7 @@ public class StationAcceptanceTest {
 
     private static final String STATION_NAME_1 = "강남역";
     private static final String STATION_NAME_2 = "역삼역";
+    private static final String STATION_NAME_3 = "선릉역";
 
     @Autowired
     private DatabaseCleanup databaseCleanup;
@@ -98,6 +103,175 @@ public class StationAcceptanceTest {
         assertThat(findNames(lookUpStations())).doesNotContain(STATION_NAME_1);
     }
 
+    /**
+     * Given 지하철역 목록을 조회해 ETag 를 받고
+     * When 같은 ETag 로 다시 조회하면
+     * Then 304 를 응답 받고, 지하철역을 생성한 뒤에는 변경된 목록을 응답 받는다
+     */
+    @DisplayName("지하철역 목록이 바뀌지 않았으면 304 를 응답한다.")
+    @Test
+    void notModifiedStations() {
+        // given
+        createStation(STATION_NAME_1);
+        String eTag = lookUpStations().header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> response = lookUpStations(eTag);
+
+        // then
+        assertResponseCode(response, HttpStatus.NOT_MODIFIED);
+
+        // when
+        createStation(STATION_NAME_2);
+        ExtractableResponse<Response> modifiedResponse = lookUpStations(eTag);
+
+        // then
+        assertResponseCode(modifiedResponse, HttpStatus.OK);
+        assertThat(findNames(modifiedResponse)).containsExactlyInAnyOrder(STATION_NAME_1, STATION_NAME_2);
+    }
+
+    /**
+     * When 여러 지하철역을 한 번에 생성하면
+     * Then 요청한 순서대로 생성된 지하철역을 응답 받고
+     * Then 지하철역 목록 조회 시 생성한 역을 찾을 수 있다
+     */
+    @DisplayName("지하철역을 한 번에 여러 개 생성한다.")
+    @Test
+    void createStations() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(List.of(Map.of("name", STATION_NAME_1), Map.of("name", STATION_NAME_2)))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertResponseCode(response, HttpStatus.CREATED);
+        assertThat(findNames(response)).containsExactly(STATION_NAME_1, STATION_NAME_2);
+        assertThat(findNames(lookUpStations())).containsExactlyInAnyOrder(STATION_NAME_1, STATION_NAME_2);
+    }
+
+    /**
+     * When 줄 단위 JSON(NDJSON) 으로 여러 지하철역을 한 번에 생성하면
+     * Then 요청한 순서대로 증가하는 ID 로 생성된 지하철역을 응답 받는다
+     */
+    @DisplayName("NDJSON 본문으로 지하철역을 한 번에 여러 개 생성한다.")
+    @Test
+    void createStationsWithNdjson() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body("{\"name\":\"" + STATION_NAME_1 + "\"}\n{\"name\":\"" + STATION_NAME_2 + "\"}\n")
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertResponseCode(response, HttpStatus.CREATED);
+        assertThat(findNames(response)).containsExactly(STATION_NAME_1, STATION_NAME_2);
+        List<Long> ids = response.jsonPath().getList("id", Long.class);
+        assertThat(ids.get(0)).isLessThan(ids.get(1));
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 2개씩 지하철역 목록을 조회하면
+     * Then 첫 페이지와 함께 다음 페이지 Link 를 응답 받고, 그 Link 로 나머지 역을 조회할 수 있다
+     */
+    @DisplayName("지하철역 목록을 키셋 페이지 단위로 조회한다.")
+    @Test
+    void lookUpStationsByPage() {
+        // given
+        createStation(STATION_NAME_1);
+        createStation(STATION_NAME_2);
+        createStation(STATION_NAME_3);
+
+        // when
+        ExtractableResponse<Response> firstPage = RestAssured.given().log().all()
+                .when().get("/stations?limit=2")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertResponseCode(firstPage, HttpStatus.OK);
+        assertThat(findNames(firstPage)).containsExactly(STATION_NAME_1, STATION_NAME_2);
+        String link = firstPage.header(HttpHeaders.LINK);
+        assertThat(link).endsWith("; rel=\"next\"");
+
+        // when
+        ExtractableResponse<Response> lastPage = RestAssured.given().log().all()
+                .when().get(link.substring(1, link.indexOf('>')))
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(findNames(lastPage)).containsExactly(STATION_NAME_3);
+        assertThat(lastPage.header(HttpHeaders.LINK)).isNull();
+    }
+
+    /**
+     * Given 2개의 지하철역을 생성하고
+     * When 지하철역 목록을 스트리밍으로 조회하면
+     * Then 한 줄에 지하철역 하나씩 NDJSON 으로 응답 받는다
+     */
+    @DisplayName("지하철역 목록을 NDJSON 으로 스트리밍한다.")
+    @Test
+    void streamStations() {
+        // given
+        createStation(STATION_NAME_1);
+        createStation(STATION_NAME_2);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().get("/stations/stream")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertResponseCode(response, HttpStatus.OK);
+        assertThat(response.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        String[] lines = response.asString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains(STATION_NAME_1);
+        assertThat(lines[1]).contains(STATION_NAME_2);
+    }
+
+    /**
+     * Given 한 페이지보다 많은 지하철역을 생성하고
+     * When 지하철역 목록을 스트리밍으로 조회하면
+     * Then 페이지를 이어 읽어 모든 지하철역을 ID 순서대로 응답 받는다
+     */
+    @DisplayName("지하철역 목록 스트리밍은 여러 페이지를 이어서 보낸다.")
+    @Test
+    void streamStationsAcrossPages() {
+        // given
+        int stationCount = KeysetPages.MAX_LIMIT + 1;
+        String body = IntStream.range(0, stationCount)
+                .mapToObj(i -> "{\"name\":\"역" + i + "\"}\n")
+                .collect(Collectors.joining());
+        RestAssured.given()
+                .body(body)
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().post("/stations/bulk")
+                .then().statusCode(HttpStatus.CREATED.value());
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().get("/stations/stream")
+                .then()
+                .extract();
+
+        // then
+        assertResponseCode(response, HttpStatus.OK);
+        String[] lines = response.asString().split("\n");
+        assertThat(lines).hasSize(stationCount);
+        assertThat(lines[0]).contains("\"역0\"");
+        assertThat(lines[stationCount - 1]).contains("\"역" + (stationCount - 1) + "\"");
+    }
+
     private static ExtractableResponse<Response> createStation(String stationName) {
         Map<String, String> params = new HashMap<>();
         params.put("name", stationName);
@@ -117,6 +291,14 @@ public class StationAcceptanceTest {
                 .extract();
     }
 
+    private static ExtractableResponse<Response> lookUpStations(String eTag) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
     private static List<String> findNames(ExtractableResponse<Response> response) {
         return response.jsonPath()
                 .getList("name", String.class);
@@ -0,0 +1,72 @@
+package subway.station;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.util.DatabaseCleanup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단건 생성 API 를 반복 호출하는 경우와 일괄 생성 API 를 한 번 호출하는 경우의 소요 시간을 비교한다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("지하철역 일괄 생성 성능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class StationBulkBenchmarkTest {
+
+    private static final int STATION_COUNT = 3_000;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpAllTables();
+    }
+
+    @DisplayName("일괄 생성은 단건 생성을 반복하는 것보다 빠르다.")
+    @Test
+    void bulkInsertIsFasterThanSingleInsertsTest() {
+        List<Map<String, String>> requests = IntStream.range(0, STATION_COUNT)
+                .mapToObj(i -> Map.of("name", "역" + i))
+                .collect(Collectors.toList());
+
+        long singleStart = System.nanoTime();
+        requests.forEach(StationBulkBenchmarkTest::createStation);
+        long singleMillis = (System.nanoTime() - singleStart) / 1_000_000;
+
+        databaseCleanup.cleanUpAllTables();
+
+        long bulkStart = System.nanoTime();
+        RestAssured.given()
+                .body(requests)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations/bulk")
+                .then().statusCode(HttpStatus.CREATED.value());
+        long bulkMillis = (System.nanoTime() - bulkStart) / 1_000_000;
+
+        System.out.printf("%,d stations: single inserts %,d ms, bulk insert %,d ms%n", STATION_COUNT, singleMillis, bulkMillis);
+        assertThat(bulkMillis).isLessThan(singleMillis);
+    }
+
+    private static void createStation(Map<String, String> params) {
+        RestAssured.given()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations")
+                .then().statusCode(HttpStatus.CREATED.value());
+    }
+}
@@ -0,0 +1,117 @@
+package subway.station;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import subway.util.DatabaseCleanup;
+import subway.util.QueryCounter;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineRequestFixture.stationRequest;
+
+@DisplayName("역 2차 캐시 관련 기능")
+@ActiveProfiles("l2cache")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class StationSecondLevelCacheTest {
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpAllTables();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Given: 역을 만들고 한 번 조회한 뒤,
+     * When: 같은 역을 다시 조회하면,
+     * Then: DB 에 쿼리를 보내지 않고 2차 캐시에서 꺼낸다.
+     */
+    @DisplayName("같은 역을 다시 조회하면 2차 캐시에서 꺼낸다.")
+    @Test
+    void findStationFromSecondLevelCacheTest() {
+        // given
+        Long stationId = stationService.saveStation(stationRequest("강남역")).getId();
+        stationRepository.findById(stationId);
+
+        // when
+        long queryCount = queryCounter.count(() -> stationRepository.findById(stationId));
+
+        // then
+        assertThat(queryCount).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("subway.station").getHitCount()).isPositive();
+    }
+
+    /**
+     * Given: 역을 만들고 한 번 조회한 뒤,
+     * When: 같은 역을 다시 조회하면,
+     * Then: 역 캐시 영역의 적중 수가 지표로 노출된다.
+     */
+    @DisplayName("2차 캐시 영역의 적중 수를 지표로 노출한다.")
+    @Test
+    void publishRegionHitsTest() {
+        // given
+        Long stationId = stationService.saveStation(stationRequest("강남역")).getId();
+        stationRepository.findById(stationId);
+        double hitsBefore = regionHits();
+
+        // when
+        stationRepository.findById(stationId);
+
+        // then
+        assertThat(regionHits()).isGreaterThan(hitsBefore);
+    }
+
+    private double regionHits() {
+        return meterRegistry.get("hibernate.second.level.cache.hits")
+                .tag("region", "subway.station")
+                .functionCounter()
+                .count();
+    }
+
+    /**
+     * Given: 역을 만들고 캐시에 올린 뒤,
+     * When: 역을 삭제하면,
+     * Then: 캐시된 역이 무효화되어 삭제된 역이 조회되지 않는다.
+     */
+    @DisplayName("역을 삭제하면 캐시된 역이 무효화된다.")
+    @Test
+    void evictDeletedStationTest() {
+        // given
+        Long stationId = stationService.saveStation(stationRequest("강남역")).getId();
+        stationRepository.findById(stationId);
+
+        // when
+        stationService.deleteStationById(stationId);
+
+        // then
+        assertThat(stationRepository.findById(stationId)).isEmpty();
+    }
+}
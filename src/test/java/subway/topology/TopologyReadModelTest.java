@@ -0,0 +1,120 @@
+package subway.topology;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.line.LineResponseCache;
+import subway.util.DatabaseCleanup;
+import subway.util.QueryCounter;
+import subway.web.SerializedResponseCache;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("역/노선 읽기 모델 관련 기능")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class TopologyReadModelTest {
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private TopologyReadModel topologyReadModel;
+
+    @Autowired
+    private LineResponseCache lineResponseCache;
+
+    @Autowired
+    private SerializedResponseCache serializedResponseCache;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    public void setUp() {
+        databaseCleanup.cleanUpAllTables();
+    }
+
+    /**
+     * Given: 역과 노선을 만들고 구간을 등록한 뒤 역 하나를 삭제하면,
+     * When: 읽기 모델을 DB 와 비교하면,
+     * Then: 서로 다른 역이나 노선이 없다.
+     */
+    @DisplayName("커밋된 변경이 읽기 모델에 반영된다.")
+    @Test
+    void readModelFollowsCommittedChangesTest() {
+        // given
+        Long 강남역 = createStation("강남역");
+        Long 역삼역 = createStation("역삼역");
+        Long 선릉역 = createStation("선릉역");
+        Long 삭제할역 = createStation("삭제할역");
+        Long lineId = createLine(강남역, 역삼역);
+        post("/lines/" + lineId + "/sections", Map.of("upStationId", 역삼역, "downStationId", 선릉역, "distance", 10));
+        RestAssured.when().delete("/stations/" + 삭제할역)
+                .then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        // when
+        List<String> differences = topologyReadModel.checkConsistency();
+
+        // then
+        assertThat(differences).isEmpty();
+        TopologySnapshot snapshot = topologyReadModel.read().orElseThrow();
+        LineView line = snapshot.findLine(lineId).orElseThrow();
+        assertThat(line.stationCount()).isEqualTo(3);
+        assertThat(line.stationIdAt(2)).isEqualTo(선릉역);
+        assertThat(snapshot.findStationName(삭제할역)).isEmpty();
+    }
+
+    /**
+     * Given: 노선을 만들고 응답 캐시를 비운 뒤,
+     * When: 노선 목록, 노선, 역 목록을 조회하면,
+     * Then: SQL 을 실행하지 않는다.
+     */
+    @DisplayName("조회 API 는 읽기 모델에서 응답하고 DB 를 거치지 않는다.")
+    @Test
+    void readsDoNotQueryDatabaseTest() {
+        // given
+        Long lineId = createLine(createStation("강남역"), createStation("역삼역"));
+        lineResponseCache.clear();
+        serializedResponseCache.clear();
+
+        // when
+        long queryCount = queryCounter.count(() -> {
+            RestAssured.when().get("/lines").then().statusCode(HttpStatus.OK.value());
+            RestAssured.when().get("/lines/" + lineId).then().statusCode(HttpStatus.OK.value());
+            RestAssured.when().get("/stations").then().statusCode(HttpStatus.OK.value());
+        });
+
+        // then
+        assertThat(queryCount).isZero();
+    }
+
+    private static Long createStation(String name) {
+        return post("/stations", Map.of("name", name));
+    }
+
+    private static Long createLine(Long upStationId, Long downStationId) {
+        return post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", upStationId,
+                "downStationId", downStationId,
+                "distance", 10));
+    }
+
+    private static Long post(String path, Map<String, Object> params) {
+        return RestAssured.given()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post(path)
+                .then().statusCode(HttpStatus.CREATED.value())
+                .extract().jsonPath().getLong("id");
+    }
+}
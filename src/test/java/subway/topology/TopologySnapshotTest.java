@@ -0,0 +1,56 @@
+package subway.topology;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.station.StationResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("역/노선 스냅샷 단위 기능")
+class TopologySnapshotTest {
+
+    private static final TopologySnapshot 역_3개 = TopologySnapshot.EMPTY.withStations(List.of(
+            new StationResponse(10L, "강남역"),
+            new StationResponse(20L, "역삼역"),
+            new StationResponse(30L, "선릉역")), Set.of());
+
+    @DisplayName("역을 추가하면 ID 순서를 지키며 앞, 가운데, 뒤에 끼워 넣는다.")
+    @Test
+    void insertStationsTest() {
+        // when
+        TopologySnapshot snapshot = 역_3개.withStations(List.of(
+                new StationResponse(5L, "신논현역"),
+                new StationResponse(25L, "역삼중앙역"),
+                new StationResponse(40L, "삼성역")), Set.of());
+
+        // then
+        assertThat(stationIds(snapshot)).containsExactly(5L, 10L, 20L, 25L, 30L, 40L);
+        assertThat(snapshot.findStationName(25L)).contains("역삼중앙역");
+        assertThat(stationIds(역_3개)).containsExactly(10L, 20L, 30L);
+    }
+
+    @DisplayName("역 이름을 바꾸고 역을 빼면 나머지 역의 순서와 이름은 그대로다.")
+    @Test
+    void renameAndRemoveStationsTest() {
+        // when
+        TopologySnapshot snapshot = 역_3개.withStations(List.of(new StationResponse(30L, "새선릉역")), Set.of(10L, 99L));
+
+        // then
+        assertThat(stationIds(snapshot)).containsExactly(20L, 30L);
+        assertThat(snapshot.findStationName(20L)).contains("역삼역");
+        assertThat(snapshot.findStationName(30L)).contains("새선릉역");
+        assertThat(snapshot.findStationName(10L)).isEmpty();
+    }
+
+    private static List<Long> stationIds(TopologySnapshot snapshot) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < snapshot.stationCount(); i++) {
+            ids.add(snapshot.stationIdAt(i));
+        }
+        return ids;
+    }
+}
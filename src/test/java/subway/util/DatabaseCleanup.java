@@ -2,6 +2,10 @@ package subway.util;
 
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import subway.line.LineResponseCache;
+import subway.path.PathGraphUpdater;
+import subway.topology.TopologyReadModel;
+import subway.web.SerializedResponseCache;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
@@ -15,10 +19,27 @@ public class DatabaseCleanup {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private PathGraphUpdater pathGraphUpdater;
+
+    private LineResponseCache lineResponseCache;
+
+    private SerializedResponseCache serializedResponseCache;
+
+    private TopologyReadModel topologyReadModel;
+
+    public DatabaseCleanup(PathGraphUpdater pathGraphUpdater, LineResponseCache lineResponseCache,
+                           SerializedResponseCache serializedResponseCache, TopologyReadModel topologyReadModel) {
+        this.pathGraphUpdater = pathGraphUpdater;
+        this.lineResponseCache = lineResponseCache;
+        this.serializedResponseCache = serializedResponseCache;
+        this.topologyReadModel = topologyReadModel;
+    }
+
     @Transactional
     public void cleanUpTablesForLineTest() {
         entityManager.createNativeQuery(DELETE_SECTION).executeUpdate();
         entityManager.createNativeQuery(DELETE_LINE).executeUpdate();
+        resetInMemoryState();
     }
 
     @Transactional
@@ -26,5 +47,14 @@ public class DatabaseCleanup {
         entityManager.createNativeQuery(DELETE_SECTION).executeUpdate();
         entityManager.createNativeQuery(DELETE_LINE).executeUpdate();
         entityManager.createNativeQuery(DELETE_STATION).executeUpdate();
+        resetInMemoryState();
+    }
+
+    private void resetInMemoryState() {
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        topologyReadModel.reload();
+        pathGraphUpdater.reload();
+        lineResponseCache.clear();
+        serializedResponseCache.clear();
     }
-}
\ No newline at end of file
+}
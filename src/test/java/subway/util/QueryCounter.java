@@ -0,0 +1,70 @@
+package subway.util;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class QueryCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final AtomicLong count = new AtomicLong();
+
+    private StatementInspector delegate = sql -> sql;
+
+    private volatile CountDownLatch gate;
+
+    @Override
+    public String inspect(String sql) {
+        count.incrementAndGet();
+        awaitGate();
+        return delegate.inspect(sql);
+    }
+
+    private void awaitGate() {
+        CountDownLatch current = gate;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        Object existing = hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+        if (existing instanceof StatementInspector) {
+            delegate = (StatementInspector) existing;
+        }
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    public long count(Runnable runnable) {
+        long before = count.get();
+        runnable.run();
+        return count.get() - before;
+    }
+
+    /**
+     * release 를 부를 때까지 쿼리를 보내려는 스레드를 멈춰 세운다. 조회가 진행 중인 상태를 테스트에서 만들 때 쓴다.
+     */
+    public void hold() {
+        gate = new CountDownLatch(1);
+    }
+
+    public void release() {
+        CountDownLatch current = gate;
+        gate = null;
+        if (current != null) {
+            current.countDown();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package subway.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("미리 직렬화한 응답 단위 기능")
+class SerializedResponseTest {
+
+    private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIP_BODY = {1, 2, 3};
+
+    @DisplayName("gzip 의 q 값이 0 이면 압축하지 않은 본문을 보낸다.")
+    @Test
+    void refuseGzipWithZeroQualityTest() {
+        // given
+        SerializedResponse response = new SerializedResponse(BODY, GZIP_BODY);
+
+        // when
+        ResponseEntity<byte[]> entity = response.toResponseEntity(null, "gzip;q=0, identity");
+
+        // then
+        assertThat(entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(entity.getBody()).isEqualTo(BODY);
+    }
+
+    @DisplayName("Accept-Encoding 의 q 값에 따라 gzip 수락 여부를 판단한다.")
+    @Test
+    void acceptsGzipTest() {
+        assertThat(SerializedResponse.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(SerializedResponse.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+        assertThat(SerializedResponse.acceptsGzip("*")).isTrue();
+        assertThat(SerializedResponse.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(SerializedResponse.acceptsGzip("*;q=0")).isFalse();
+        assertThat(SerializedResponse.acceptsGzip("identity")).isFalse();
+        assertThat(SerializedResponse.acceptsGzip(null)).isFalse();
+    }
+
+    /**
+     * Given: gzip 본문의 ETag 를 받아 둔 클라이언트가,
+     * When: gzip 을 받지 않는 요청에 그 ETag 로 조건부 조회하면,
+     * Then: 다른 표현이므로 304 가 아닌 본문을 받는다.
+     */
+    @DisplayName("협상한 인코딩의 ETag 와 일치할 때만 304 를 응답한다.")
+    @Test
+    void notModifiedOnlyForNegotiatedETagTest() {
+        // given
+        SerializedResponse response = new SerializedResponse(BODY, GZIP_BODY);
+        String gzipETag = response.toResponseEntity(null, "gzip").getHeaders().getETag();
+
+        // when
+        ResponseEntity<byte[]> identity = response.toResponseEntity(gzipETag, null);
+        ResponseEntity<byte[]> gzip = response.toResponseEntity(gzipETag, "gzip");
+
+        // then
+        assertThat(identity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(gzip.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+}
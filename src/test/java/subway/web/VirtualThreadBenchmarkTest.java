@@ -0,0 +1,119 @@
+package subway.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import subway.SubwayApplication;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 커넥션을 얻을 때마다 일부러 지연되는 DataSource 를 두고, 동시에 수많은 GET /lines 요청을 보냈을 때
+ * 플랫폼 스레드 풀과 가상 스레드의 처리 시간을 비교한다. 캐시와 읽기 모델을 끄고 매 요청이 DB 를 거치게 한다.
+ * ./gradlew benchmark 는 Java 21 툴체인으로 테스트 JVM 을 띄우므로 빌드 JDK 와 관계없이 실행된다.
+ * 툴체인이 설치되어 있지 않으면 foojay 리졸버가 내려받는다. 다른 태스크에서 Java 21 미만으로 실행하면 건너뛴다.
+ */
+@Tag("benchmark")
+@DisplayName("가상 스레드 실행 모드 성능")
+public class VirtualThreadBenchmarkTest {
+
+    private static final int IN_FLIGHT_REQUESTS = Integer.getInteger("benchmark.in-flight", 10_000);
+    private static final long CONNECTION_DELAY_MILLIS = 50;
+
+    @DisplayName("느린 DB 앞에서 가상 스레드는 플랫폼 스레드 풀보다 많은 요청을 동시에 처리한다.")
+    @Test
+    void virtualThreadsScaleBeyondTomcatThreadPoolTest() {
+        assumeTrue(Runtime.version().feature() >= 21, "가상 스레드는 Java 21 이상에서만 사용할 수 있습니다.");
+
+        long platformMillis = measure(false);
+        long virtualMillis = measure(true);
+
+        System.out.printf("%,d in-flight GET /lines with %d ms connection delay: platform threads %,d ms, virtual threads %,d ms%n",
+                IN_FLIGHT_REQUESTS, CONNECTION_DELAY_MILLIS, platformMillis, virtualMillis);
+        assertThat(virtualMillis).isLessThan(platformMillis);
+    }
+
+    private long measure(boolean virtualThreads) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SubwayApplication.class, SlowDataSourcePostProcessor.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=" + (IN_FLIGHT_REQUESTS * 2),
+                        "server.tomcat.accept-count=" + IN_FLIGHT_REQUESTS,
+                        "subway.web.virtual-threads.enabled=" + virtualThreads,
+                        "subway.line.cache.max-size=0",
+                        "subway.web.json-cache.enabled=false",
+                        "subway.read-model.enabled=false",
+                        "logging.level.org.hibernate=warn")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return fireConcurrently(URI.create("http://localhost:" + port + "/lines"));
+        }
+    }
+
+    private static long fireConcurrently(URI uri) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMinutes(2))
+                .build();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(IN_FLIGHT_REQUESTS);
+        for (int i = 0; i < IN_FLIGHT_REQUESTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        responses.forEach(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * 커넥션 풀에서 커넥션을 꺼내기 전에 요청 스레드를 잠재워 DB 왕복 지연을 흉내 낸다.
+     */
+    static class SlowDataSourcePostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource) {
+                return new SlowDataSource((DataSource) bean);
+            }
+            return bean;
+        }
+    }
+
+    private static class SlowDataSource extends DelegatingDataSource {
+
+        SlowDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                Thread.sleep(CONNECTION_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+            return super.getConnection();
+        }
+    }
+}